@@ -25,8 +25,21 @@
 package net.runelite.cache;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import net.runelite.cache.definitions.exporters.StreamingExporter;
+import net.runelite.cache.diff.CacheDiff;
+import net.runelite.cache.diff.CacheDiffReport;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.StorageConverter;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.BinaryFlatStorage;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.models.BulkModelExporter;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -40,11 +53,23 @@ public class Cache
 		Options options = new Options();
 
 		options.addOption("c", "cache", true, "cache base");
+		options.addOption(null, "format", true, "cache format: disk (default), flat or binary");
+
+		options.addOption(null, "convert", true, "directory to convert the cache to");
+		options.addOption(null, "convert-format", true, "format to convert the cache to: disk, flat or binary");
+
+		options.addOption(null, "diff", true, "previous cache to compare the cache against");
+		options.addOption(null, "diff-out", true, "file to write the comparison to, instead of stdout");
+
+		options.addOption(null, "export", true, "directory to export all definitions to");
+		options.addOption(null, "export-format", true, "format to export definitions as: jsonl (default) or columnar");
 
 		options.addOption(null, "items", true, "directory to dump items to");
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "models", true, "directory to export models to");
+		options.addOption(null, "models-container", false, "also write exported models to a single mesh container");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -60,10 +85,68 @@ public class Cache
 		}
 
 		String cache = cmd.getOptionValue("cache");
+		String format = cmd.getOptionValue("format", "disk");
+
+		Store store = loadStore(format, cache);
+
+		if (cmd.hasOption("convert"))
+		{
+			String convertdir = cmd.getOptionValue("convert");
+			String convertFormat = cmd.getOptionValue("convert-format");
+
+			if (convertdir == null || convertFormat == null)
+			{
+				System.err.println("Convert directory and format must be specified");
+				return;
+			}
+
+			System.out.println("Converting cache to " + convertFormat + " in " + convertdir);
+			File dir = new File(convertdir);
+			dir.mkdirs();
+			StorageConverter.convert(store, openStorage(convertFormat, dir));
+		}
+		else if (cmd.hasOption("diff"))
+		{
+			String previous = cmd.getOptionValue("diff");
+
+			Store previousStore = loadStore(format, previous);
+			CacheDiffReport report = new CacheDiff(previousStore, store).diff(Runtime.getRuntime().availableProcessors());
+
+			String diffOut = cmd.getOptionValue("diff-out");
+			if (diffOut != null)
+			{
+				try (Writer writer = new OutputStreamWriter(new FileOutputStream(diffOut), StandardCharsets.UTF_8))
+				{
+					report.write(writer);
+				}
+			}
+			else
+			{
+				// flushed rather than closed, so System.out stays open
+				Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+				report.write(writer);
+				writer.flush();
+			}
+		}
+		else if (cmd.hasOption("export"))
+		{
+			String exportdir = cmd.getOptionValue("export");
 
-		Store store = loadStore(cache);
+			if (exportdir == null)
+			{
+				System.err.println("Export directory must be specified");
+				return;
+			}
 
-		if (cmd.hasOption("items"))
+			StreamingExporter.Format exportFormat = "columnar".equals(cmd.getOptionValue("export-format"))
+				? StreamingExporter.Format.COLUMNAR
+				: StreamingExporter.Format.JSON_LINES;
+
+			System.out.println("Exporting definitions to " + exportdir);
+			new StreamingExporter(store, Runtime.getRuntime().availableProcessors())
+				.exportAll(new File(exportdir), exportFormat);
+		}
+		else if (cmd.hasOption("items"))
 		{
 			String itemdir = cmd.getOptionValue("items");
 
@@ -115,19 +198,47 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("models"))
+		{
+			String modeldir = cmd.getOptionValue("models");
+
+			if (modeldir == null)
+			{
+				System.err.println("Model directory must be specified");
+				return;
+			}
+
+			System.out.println("Exporting models to " + modeldir);
+			exportModels(store, new File(modeldir), cmd.hasOption("models-container"));
+		}
 		else
 		{
 			System.err.println("Nothing to do");
 		}
 	}
 
-	private static Store loadStore(String cache) throws IOException
+	private static Store loadStore(String format, String cache) throws IOException
 	{
-		Store store = new Store(new File(cache));
+		Store store = new Store(openStorage(format, new File(cache)));
 		store.load();
 		return store;
 	}
 
+	private static Storage openStorage(String format, File dir) throws IOException
+	{
+		switch (format)
+		{
+			case "disk":
+				return new DiskStorage(dir);
+			case "flat":
+				return new FlatStorage(dir);
+			case "binary":
+				return new BinaryFlatStorage(dir);
+			default:
+				throw new IllegalArgumentException("unknown cache format: " + format);
+		}
+	}
+
 	private static void dumpItems(Store store, File itemdir) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
@@ -158,4 +269,13 @@ public class Cache
 		dumper.load();
 		dumper.export(spritedir);
 	}
+
+	private static void exportModels(Store store, File modeldir, boolean container) throws IOException
+	{
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		BulkModelExporter exporter = new BulkModelExporter(store, textureManager, Runtime.getRuntime().availableProcessors());
+		exporter.export(modeldir, container);
+	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import net.runelite.cache.definitions.loaders.EnumLoader;
+import net.runelite.cache.definitions.loaders.InventoryLoader;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.KitLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.definitions.loaders.OverlayLoader;
+import net.runelite.cache.definitions.loaders.ScriptLoader;
+import net.runelite.cache.definitions.loaders.SequenceLoader;
+import net.runelite.cache.definitions.loaders.SpotAnimLoader;
+import net.runelite.cache.definitions.loaders.StructLoader;
+import net.runelite.cache.definitions.loaders.UnderlayLoader;
+import net.runelite.cache.definitions.loaders.VarbitLoader;
+
+/**
+ * Types of definitions, where they are stored in the cache and how they are decoded.
+ */
+public enum DefinitionType
+{
+	UNDERLAY("underlay", ConfigType.UNDERLAY, (id, data) -> new UnderlayLoader().load(id, data)),
+	IDENTKIT("identkit", ConfigType.IDENTKIT, (id, data) -> new KitLoader().load(id, data)),
+	OVERLAY("overlay", ConfigType.OVERLAY, (id, data) -> new OverlayLoader().load(id, data)),
+	INVENTORY("inventory", ConfigType.INV, (id, data) -> new InventoryLoader().load(id, data)),
+	OBJECT("object", ConfigType.OBJECT, (id, data) -> new ObjectLoader().load(id, data)),
+	ENUM("enum", ConfigType.ENUM, (id, data) -> new EnumLoader().load(id, data)),
+	NPC("npc", ConfigType.NPC, (id, data) -> new NpcLoader().load(id, data)),
+	ITEM("item", ConfigType.ITEM, (id, data) -> new ItemLoader().load(id, data)),
+	SEQUENCE("sequence", ConfigType.SEQUENCE, (id, data) -> new SequenceLoader().load(id, data)),
+	SPOTANIM("spotanim", ConfigType.SPOTANIM, (id, data) -> new SpotAnimLoader().load(id, data)),
+	VARBIT("varbit", ConfigType.VARBIT, (id, data) -> new VarbitLoader().load(id, data)),
+	STRUCT("struct", ConfigType.STRUCT, (id, data) -> new StructLoader().load(id, data)),
+	MODEL("model", IndexType.MODELS, null),
+	SPRITE("sprite", IndexType.SPRITES, null),
+	SCRIPT("script", IndexType.CLIENTSCRIPT, (id, data) -> new ScriptLoader().load(id, data));
+
+	public interface Decoder
+	{
+		Object decode(int id, byte[] data) throws IOException;
+	}
+
+	private final String name;
+	private final IndexType index;
+	private final ConfigType config;
+	private final Decoder decoder;
+
+	DefinitionType(String name, ConfigType config, Decoder decoder)
+	{
+		this.name = name;
+		this.index = IndexType.CONFIGS;
+		this.config = config;
+		this.decoder = decoder;
+	}
+
+	DefinitionType(String name, IndexType index, Decoder decoder)
+	{
+		this.name = name;
+		this.index = index;
+		this.config = null;
+		this.decoder = decoder;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public IndexType getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Gets the config archive the definitions are files of, or null if each
+	 * definition is an archive of {@link #getIndex()}
+	 */
+	public ConfigType getConfig()
+	{
+		return config;
+	}
+
+	/**
+	 * Gets the decoder of the definitions, or null if they aren't decoded
+	 */
+	public Decoder getDecoder()
+	{
+		return decoder;
+	}
+
+	public static DefinitionType forConfig(int archiveId)
+	{
+		for (DefinitionType type : values())
+		{
+			if (type.config != null && type.config.getId() == archiveId)
+			{
+				return type;
+			}
+		}
+		return null;
+	}
+
+	public static DefinitionType forIndex(int indexId)
+	{
+		for (DefinitionType type : values())
+		{
+			if (type.config == null && type.index.getNumber() == indexId)
+			{
+				return type;
+			}
+		}
+		return null;
+	}
+}
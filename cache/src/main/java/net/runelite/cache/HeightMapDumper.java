@@ -25,8 +25,10 @@
 package net.runelite.cache;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.Set;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
@@ -57,32 +59,104 @@ public class HeightMapDumper
 
 	public BufferedImage drawHeightMap(int z)
 	{
-		int minX = regionLoader.getLowestX().getBaseX();
-		int minY = regionLoader.getLowestY().getBaseY();
+		int dimX = getImageWidth();
+		int dimY = getImageHeight();
 
-		int maxX = regionLoader.getHighestX().getBaseX() + Region.X;
-		int maxY = regionLoader.getHighestY().getBaseY() + Region.Y;
+		logger.info("Map image dimensions: {}px x {}px, {}px per map square ({} MB)", dimX, dimY, MAP_SCALE, (dimX * dimY / 1024 / 1024));
 
-		int dimX = maxX - minX;
-		int dimY = maxY - minY;
+		BufferedImage image = new BufferedImage(dimX, dimY, BufferedImage.TYPE_INT_RGB);
+		draw(image, z, null);
+		return image;
+	}
 
-		dimX *= MAP_SCALE;
-		dimY *= MAP_SCALE;
+	/**
+	 * Redraws some regions over a height map previously drawn by {@link #drawHeightMap(int)}.
+	 * Regions which no longer exist are cleared. If the bounds of the map changed since
+	 * the image was drawn, such as when a region was added outside of them, the whole
+	 * height map is drawn again instead.
+	 *
+	 * @param image the height map to draw over
+	 * @param z the plane
+	 * @param regionIds ids of the regions to redraw, such as from
+	 *                  {@link MapManifest#getRegionsToRedraw(MapManifest, int)}
+	 * @return the image which was drawn over, or a new image if the bounds changed
+	 */
+	public BufferedImage drawHeightMap(BufferedImage image, int z, Set<Integer> regionIds)
+	{
+		if (image.getWidth() != getImageWidth() || image.getHeight() != getImageHeight())
+		{
+			logger.info("Map bounds changed, redrawing the whole height map");
+			return drawHeightMap(z);
+		}
 
-		logger.info("Map image dimensions: {}px x {}px, {}px per map square ({} MB)", dimX, dimY, MAP_SCALE, (dimX * dimY / 1024 / 1024));
+		for (int regionId : regionIds)
+		{
+			int baseX = (regionId >> 8) * Region.X;
+			int baseY = (regionId & 0xFF) * Region.Y;
 
-		BufferedImage image = new BufferedImage(dimX, dimY, BufferedImage.TYPE_INT_RGB);
-		draw(image, z);
+			if (!isInImage(image, baseX, baseY))
+			{
+				logger.info("Region {} is outside of the map bounds, redrawing the whole height map", regionId);
+				return drawHeightMap(z);
+			}
+		}
+
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.BLACK);
+
+		for (int regionId : regionIds)
+		{
+			int baseX = (regionId >> 8) * Region.X;
+			int baseY = (regionId & 0xFF) * Region.Y;
+
+			if (regionLoader.findRegionForWorldCoordinates(baseX, baseY) == null)
+			{
+				int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
+				int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
+				graphics.fillRect(drawBaseX * MAP_SCALE, drawBaseY * MAP_SCALE, Region.X * MAP_SCALE, Region.Y * MAP_SCALE);
+			}
+		}
+
+		graphics.dispose();
+		draw(image, z, regionIds);
 		return image;
 	}
 
-	private void draw(BufferedImage image, int z)
+	private int getImageWidth()
+	{
+		int minX = regionLoader.getLowestX().getBaseX();
+		int maxX = regionLoader.getHighestX().getBaseX() + Region.X;
+		return (maxX - minX) * MAP_SCALE;
+	}
+
+	private int getImageHeight()
+	{
+		int minY = regionLoader.getLowestY().getBaseY();
+		int maxY = regionLoader.getHighestY().getBaseY() + Region.Y;
+		return (maxY - minY) * MAP_SCALE;
+	}
+
+	private boolean isInImage(BufferedImage image, int baseX, int baseY)
+	{
+		int drawBaseX = (baseX - regionLoader.getLowestX().getBaseX()) * MAP_SCALE;
+		int drawBaseY = (regionLoader.getHighestY().getBaseY() - baseY) * MAP_SCALE;
+		return drawBaseX >= 0 && drawBaseY >= 0
+			&& drawBaseX + Region.X * MAP_SCALE <= image.getWidth()
+			&& drawBaseY + Region.Y * MAP_SCALE <= image.getHeight();
+	}
+
+	private void draw(BufferedImage image, int z, Set<Integer> regionIds)
 	{
 		int max = Integer.MIN_VALUE;
 		int min = Integer.MAX_VALUE;
 
 		for (Region region : regionLoader.getRegions())
 		{
+			if (regionIds != null && !regionIds.contains(region.getRegionID()))
+			{
+				continue;
+			}
+
 			int baseX = region.getBaseX();
 			int baseY = region.getBaseY();
 
@@ -40,6 +40,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
@@ -55,6 +56,7 @@ public class ItemManager implements ItemProvider
 	public void load() throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
+		InputStream is = new InputStream();
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -65,7 +67,8 @@ public class ItemManager implements ItemProvider
 
 		for (FSFile f : files.getFiles())
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
+			is.setBuffer(f.getContents());
+			ItemDefinition def = loader.load(f.getFileId(), is);
 			items.put(f.getFileId(), def);
 		}
 	}
@@ -24,13 +24,26 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.cache.definitions.AreaDefinition;
@@ -158,6 +171,273 @@ public class MapImageDumper
 		return image;
 	}
 
+	/**
+	 * Draws a plane of the map as a pyramid of tiles, which are written to disk as soon
+	 * as they are finished.
+	 * <p>
+	 * Zoom level 0 has one tile per region, and each following zoom level combines 2x2
+	 * tiles of the level below into one tile of the same size. Tiles are drawn independently
+	 * of each other across a pool of threads, so unlike {@link #drawMap(int)} the memory
+	 * required does not depend on the size of the map.
+	 * <p>
+	 * Tiles are written to {@code outDir/<zoom>/<x>_<y>.png}, where x and y are the region
+	 * coordinates of the south west region of the tile shifted right by the zoom level.
+	 *
+	 * @param z plane to draw
+	 * @param zoomLevels number of zoom levels to write
+	 * @param outDir directory to write the tiles to
+	 * @param threads number of threads to draw with
+	 * @throws IOException if a tile can't be written
+	 */
+	public void drawTiles(int z, int zoomLevels, File outDir, int threads) throws IOException
+	{
+		drawTiles(z, zoomLevels, outDir, threads, null);
+	}
+
+	/**
+	 * Redraws the tiles of some regions, and the tiles of the zoom levels above which
+	 * contain them, over tiles previously written by {@link #drawTiles(int, int, File, int)}.
+	 * Tiles of regions which no longer exist are deleted.
+	 *
+	 * @param z plane to draw
+	 * @param zoomLevels number of zoom levels to write
+	 * @param outDir directory to write the tiles to
+	 * @param threads number of threads to draw with
+	 * @param regionIds ids of the regions to redraw, such as from
+	 *                  {@link MapManifest#getRegionsToRedraw(MapManifest, int)}, or null to draw every region
+	 * @throws IOException if a tile can't be written
+	 */
+	public void drawTiles(int z, int zoomLevels, File outDir, int threads, Set<Integer> regionIds) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("map-tiles-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			Set<Integer> tiles = new HashSet<>();
+			List<Callable<Void>> tasks = new ArrayList<>();
+
+			File zoomDir = new File(outDir, "0");
+			zoomDir.mkdirs();
+
+			if (regionIds == null)
+			{
+				regionIds = new HashSet<>();
+				for (Region region : regionLoader.getRegions())
+				{
+					regionIds.add(region.getRegionID());
+				}
+			}
+
+			for (int regionId : regionIds)
+			{
+				int regionX = regionId >> 8;
+				int regionY = regionId & 0xFF;
+				File tileDir = zoomDir;
+				Region region = regionLoader.findRegionForWorldCoordinates(regionX * Region.X, regionY * Region.Y);
+
+				tiles.add(tileKey(regionX, regionY));
+				tasks.add(() ->
+				{
+					if (region == null)
+					{
+						deleteTile(tileDir, regionX, regionY);
+					}
+					else
+					{
+						writeTile(drawRegionTile(region, z), tileDir, regionX, regionY);
+					}
+					return null;
+				});
+			}
+
+			runAll(executor, tasks);
+			logger.info("Drew {} tiles for zoom level 0", tiles.size());
+
+			for (int zoom = 1; zoom < zoomLevels; ++zoom)
+			{
+				File childDir = zoomDir;
+				zoomDir = new File(outDir, Integer.toString(zoom));
+				zoomDir.mkdirs();
+
+				Set<Integer> parents = new HashSet<>();
+				for (int tile : tiles)
+				{
+					parents.add(tileKey(tileX(tile) >> 1, tileY(tile) >> 1));
+				}
+
+				tasks.clear();
+				for (int tile : parents)
+				{
+					File tileDir = zoomDir;
+					tasks.add(() ->
+					{
+						BufferedImage image = combineTiles(childDir, tileX(tile), tileY(tile));
+						if (image == null)
+						{
+							deleteTile(tileDir, tileX(tile), tileY(tile));
+						}
+						else
+						{
+							writeTile(image, tileDir, tileX(tile), tileY(tile));
+						}
+						return null;
+					});
+				}
+
+				runAll(executor, tasks);
+				logger.info("Drew {} tiles for zoom level {}", parents.size(), zoom);
+
+				tiles = parents;
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Draws a region like {@link #drawRegion(Region, int)}, but also draws the parts of
+	 * the map icons of neighbouring regions which overlap it, so icons aren't cut off
+	 * at tile edges.
+	 */
+	private BufferedImage drawRegionTile(Region region, int z)
+	{
+		BufferedImage image = drawRegion(region, z);
+		Graphics2D graphics = image.createGraphics();
+
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				if (dx == 0 && dy == 0)
+				{
+					continue;
+				}
+
+				Region neighbour = regionLoader.findRegionForWorldCoordinates(region.getBaseX() + dx * Region.X,
+					region.getBaseY() + dy * Region.Y);
+				if (neighbour != null)
+				{
+					// the image y axis is inverted
+					drawMapIcons(graphics, neighbour, z, dx * Region.X, -dy * Region.Y);
+				}
+			}
+		}
+
+		graphics.dispose();
+		return image;
+	}
+
+	/**
+	 * Combines the 2x2 tiles of a zoom level into a tile of the next zoom level.
+	 *
+	 * @return the combined tile, or null if none of the tiles exist
+	 */
+	private static BufferedImage combineTiles(File childDir, int x, int y) throws IOException
+	{
+		int size = Region.X * MAP_SCALE;
+		int half = size / 2;
+
+		BufferedImage image = null;
+		Graphics2D graphics = null;
+
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				File childFile = new File(childDir, ((x << 1) + dx) + "_" + ((y << 1) + dy) + ".png");
+				if (!childFile.exists())
+				{
+					continue;
+				}
+
+				if (image == null)
+				{
+					image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+					graphics = image.createGraphics();
+					graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				}
+
+				BufferedImage child = ImageIO.read(childFile);
+				// north is up, so the children with the greater y go on top
+				graphics.drawImage(child, dx * half, (1 - dy) * half, half, half, null);
+			}
+		}
+
+		if (graphics != null)
+		{
+			graphics.dispose();
+		}
+		return image;
+	}
+
+	private static void writeTile(BufferedImage image, File dir, int x, int y) throws IOException
+	{
+		File file = new File(dir, x + "_" + y + ".png");
+		if (!ImageIO.write(image, "png", file))
+		{
+			throw new IOException("no png writer for " + file);
+		}
+	}
+
+	private static void deleteTile(File dir, int x, int y) throws IOException
+	{
+		File file = new File(dir, x + "_" + y + ".png");
+		if (file.exists() && !file.delete())
+		{
+			throw new IOException("unable to delete " + file);
+		}
+	}
+
+	private static void runAll(ExecutorService executor, List<Callable<Void>> tasks) throws IOException
+	{
+		List<Future<Void>> futures = new ArrayList<>(tasks.size());
+		for (Callable<Void> task : tasks)
+		{
+			futures.add(executor.submit(task));
+		}
+
+		try
+		{
+			for (Future<Void> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while drawing tiles", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+	}
+
+	private static int tileKey(int x, int y)
+	{
+		return x << 16 | y;
+	}
+
+	private static int tileX(int key)
+	{
+		return key >>> 16;
+	}
+
+	private static int tileY(int key)
+	{
+		return key & 0xFFFF;
+	}
+
 	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region)
 	{
 		int[][] map = new int[Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
@@ -974,8 +1254,12 @@ public class MapImageDumper
 					BufferedImage spriteImage = new BufferedImage(sprite.getWidth(), sprite.getHeight(), BufferedImage.TYPE_INT_ARGB);
 					spriteImage.setRGB(0, 0, sprite.getWidth(), sprite.getHeight(), sprite.getPixels(), 0, sprite.getWidth());
 
-					// scale image down so it fits
-					Image scaledImage = spriteImage.getScaledInstance(MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, 0);
+					// scale image down so it fits. This is done eagerly, instead of with
+					// Image.getScaledInstance, so that regions can be drawn concurrently
+					BufferedImage scaledImage = new BufferedImage(MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+					Graphics2D graphics = scaledImage.createGraphics();
+					graphics.drawImage(spriteImage, 0, 0, MAPICON_MAX_WIDTH, MAPICON_MAX_HEIGHT, null);
+					graphics.dispose();
 
 					assert scaledMapIcons.containsKey(sprite.getFrame()) == false;
 					scaledMapIcons.put(sprite.getFrame(), scaledImage);
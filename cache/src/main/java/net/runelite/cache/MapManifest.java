@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
+
+/**
+ * Records, for every region and plane, a digest of the cache data the map images of
+ * the region are drawn from: the map and location archives, and the underlay, overlay
+ * and object definitions used by the region, as well as the sprites, textures and map
+ * areas.
+ * <p>
+ * Comparing the manifests of two caches gives the regions whose map images have to be
+ * redrawn, so only those have to be passed to
+ * {@link MapImageDumper#drawTiles(int, int, File, int, Set)}.
+ */
+public class MapManifest
+{
+	// region id -> digest of the inputs of each plane
+	private final Map<Integer, int[]> regions = new HashMap<>();
+
+	public static MapManifest build(Store store) throws IOException
+	{
+		Map<Integer, Integer> underlays = loadConfigCrcs(store, ConfigType.UNDERLAY);
+		Map<Integer, Integer> overlays = loadConfigCrcs(store, ConfigType.OVERLAY);
+		Map<Integer, Integer> objects = loadConfigCrcs(store, ConfigType.OBJECT);
+
+		// inputs used by every region
+		CRC32 crc = new CRC32();
+		update(crc, store.getIndex(IndexType.SPRITES).getCrc());
+		update(crc, store.getIndex(IndexType.TEXTURES).getCrc());
+		update(crc, store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.AREA.getId()).getCrc());
+		int shared = (int) crc.getValue();
+
+		Map<Integer, Archive> mapArchives = new HashMap<>();
+		for (Archive archive : store.getIndex(IndexType.MAPS).getArchives())
+		{
+			mapArchives.put(archive.getNameHash(), archive);
+		}
+
+		RegionLoader regionLoader = new RegionLoader(store);
+		regionLoader.loadRegions();
+
+		MapManifest manifest = new MapManifest();
+		for (Region region : regionLoader.getRegions())
+		{
+			String suffix = region.getRegionX() + "_" + region.getRegionY();
+			Archive map = mapArchives.get(Djb2.hash("m" + suffix));
+			Archive land = mapArchives.get(Djb2.hash("l" + suffix));
+
+			// map icons of every plane are drawn on plane 0, so all objects are included
+			SortedSet<Integer> objectIds = new TreeSet<>();
+			for (Location location : region.getLocations())
+			{
+				objectIds.add(location.getId());
+			}
+
+			int[] digests = new int[Region.Z];
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				SortedSet<Integer> underlayIds = new TreeSet<>();
+				SortedSet<Integer> overlayIds = new TreeSet<>();
+
+				// bridges are drawn using the plane above
+				for (int plane = z; plane <= z + 1 && plane < Region.Z; ++plane)
+				{
+					for (int x = 0; x < Region.X; ++x)
+					{
+						for (int y = 0; y < Region.Y; ++y)
+						{
+							underlayIds.add(region.getUnderlayId(plane, x, y));
+							overlayIds.add(region.getOverlayId(plane, x, y));
+						}
+					}
+				}
+
+				crc.reset();
+				update(crc, shared);
+				update(crc, map != null ? map.getCrc() : 0);
+				update(crc, land != null ? land.getCrc() : 0);
+				// tiles store definition id + 1, with 0 meaning none
+				updateDefinitions(crc, underlayIds, underlays, 1);
+				updateDefinitions(crc, overlayIds, overlays, 1);
+				updateDefinitions(crc, objectIds, objects, 0);
+				digests[z] = (int) crc.getValue();
+			}
+
+			manifest.regions.put(region.getRegionID(), digests);
+		}
+
+		return manifest;
+	}
+
+	public static MapManifest load(File file) throws IOException
+	{
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			return new Gson().fromJson(reader, MapManifest.class);
+		}
+	}
+
+	public void save(File file) throws IOException
+	{
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			new Gson().toJson(this, writer);
+		}
+	}
+
+	public Set<Integer> getRegionIds()
+	{
+		return Collections.unmodifiableSet(regions.keySet());
+	}
+
+	/**
+	 * Gets the regions of a plane which have to be redrawn to go from the map images
+	 * of the previous manifest to the map images of this one. These are the regions which
+	 * were added, removed or had their inputs changed, and their neighbours, which are
+	 * blended with them.
+	 *
+	 * @param previous the manifest of the cache the current map images were drawn from
+	 * @param z the plane
+	 * @return ids of the regions to redraw
+	 */
+	public Set<Integer> getRegionsToRedraw(MapManifest previous, int z)
+	{
+		Set<Integer> ids = new HashSet<>(regions.keySet());
+		ids.addAll(previous.regions.keySet());
+
+		Set<Integer> redraw = new HashSet<>();
+		for (int id : ids)
+		{
+			int[] digests = regions.get(id);
+			int[] previousDigests = previous.regions.get(id);
+
+			if (digests != null && previousDigests != null && digests[z] == previousDigests[z])
+			{
+				continue;
+			}
+
+			int regionX = id >> 8;
+			int regionY = id & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					int neighbourX = regionX + dx;
+					int neighbourY = regionY + dy;
+					if (neighbourX < 0 || neighbourY < 0 || neighbourY > 0xFF)
+					{
+						continue;
+					}
+
+					int neighbour = neighbourX << 8 | neighbourY;
+					if (ids.contains(neighbour))
+					{
+						redraw.add(neighbour);
+					}
+				}
+			}
+		}
+
+		return redraw;
+	}
+
+	private static Map<Integer, Integer> loadConfigCrcs(Store store, ConfigType configType) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(configType.getId());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		ArchiveFiles files = archive.getFiles(archiveData);
+
+		Map<Integer, Integer> crcs = new HashMap<>();
+		CRC32 crc = new CRC32();
+		for (FSFile file : files.getFiles())
+		{
+			crc.reset();
+			crc.update(file.getContents());
+			crcs.put(file.getFileId(), (int) crc.getValue());
+		}
+		return crcs;
+	}
+
+	private static void updateDefinitions(CRC32 crc, SortedSet<Integer> ids, Map<Integer, Integer> definitionCrcs, int offset)
+	{
+		for (int id : ids)
+		{
+			if (id < offset)
+			{
+				continue;
+			}
+
+			Integer definitionCrc = definitionCrcs.get(id - offset);
+			update(crc, id);
+			update(crc, definitionCrc != null ? definitionCrc : 0);
+		}
+	}
+
+	private static void update(CRC32 crc, int value)
+	{
+		crc.update(value >>> 24);
+		crc.update(value >>> 16);
+		crc.update(value >>> 8);
+		crc.update(value);
+	}
+}
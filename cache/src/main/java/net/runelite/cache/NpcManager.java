@@ -39,6 +39,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
@@ -54,6 +55,7 @@ public class NpcManager
 	public void load() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
+		InputStream is = new InputStream();
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -64,7 +66,8 @@ public class NpcManager
 
 		for (FSFile f : files.getFiles())
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
+			is.setBuffer(f.getContents());
+			NpcDefinition npc = loader.load(f.getFileId(), is);
 			npcs.put(f.getFileId(), npc);
 		}
 	}
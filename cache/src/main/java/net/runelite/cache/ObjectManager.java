@@ -39,6 +39,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
@@ -54,6 +55,7 @@ public class ObjectManager
 	public void load() throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
+		InputStream is = new InputStream();
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -64,7 +66,8 @@ public class ObjectManager
 
 		for (FSFile f : files.getFiles())
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
+			is.setBuffer(f.getContents());
+			ObjectDefinition def = loader.load(f.getFileId(), is);
 			objects.put(f.getFileId(), def);
 		}
 	}
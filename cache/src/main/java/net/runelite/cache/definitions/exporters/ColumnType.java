@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+/**
+ * Encodings of the columns of a columnar definition dump
+ */
+enum ColumnType
+{
+	INT,
+	SHORT,
+	BYTE,
+	BOOLEAN,
+	CHAR,
+	LONG,
+	FLOAT,
+	DOUBLE,
+	STRING,
+	INT_ARRAY,
+	SHORT_ARRAY,
+	BYTE_ARRAY,
+	STRING_ARRAY,
+	/**
+	 * any other type, stored as a json string
+	 */
+	JSON;
+
+	static ColumnType of(Class<?> type)
+	{
+		if (type == int.class)
+		{
+			return INT;
+		}
+		else if (type == short.class)
+		{
+			return SHORT;
+		}
+		else if (type == byte.class)
+		{
+			return BYTE;
+		}
+		else if (type == boolean.class)
+		{
+			return BOOLEAN;
+		}
+		else if (type == char.class)
+		{
+			return CHAR;
+		}
+		else if (type == long.class)
+		{
+			return LONG;
+		}
+		else if (type == float.class)
+		{
+			return FLOAT;
+		}
+		else if (type == double.class)
+		{
+			return DOUBLE;
+		}
+		else if (type == String.class)
+		{
+			return STRING;
+		}
+		else if (type == int[].class)
+		{
+			return INT_ARRAY;
+		}
+		else if (type == short[].class)
+		{
+			return SHORT_ARRAY;
+		}
+		else if (type == byte[].class)
+		{
+			return BYTE_ARRAY;
+		}
+		else if (type == String[].class)
+		{
+			return STRING_ARRAY;
+		}
+		return JSON;
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.JsonParser;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads a columnar definition dump written by {@link StreamingExporter}.
+ * Columns stored as json are read as {@link com.google.gson.JsonElement}s.
+ */
+public class ColumnarDefinitionReader implements Closeable
+{
+	private final DataInputStream in;
+	private final JsonParser jsonParser = new JsonParser();
+	private final String type;
+	private final String[] columns;
+	private final ColumnType[] types;
+	private boolean done;
+
+	public ColumnarDefinitionReader(InputStream in) throws IOException
+	{
+		this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+
+		if (this.in.readInt() != ColumnarDefinitionWriter.MAGIC)
+		{
+			throw new IOException("not a columnar definition dump");
+		}
+
+		int version = this.in.readInt();
+		if (version != ColumnarDefinitionWriter.VERSION)
+		{
+			throw new IOException("unsupported columnar definition dump version " + version);
+		}
+
+		type = readString();
+		columns = new String[this.in.readInt()];
+		types = new ColumnType[columns.length];
+		for (int i = 0; i < columns.length; ++i)
+		{
+			columns[i] = readString();
+			types[i] = ColumnType.values()[this.in.readUnsignedByte()];
+		}
+	}
+
+	/**
+	 * Gets the simple class name of the definitions, or null if the dump is empty
+	 */
+	public String getType()
+	{
+		return type;
+	}
+
+	public List<String> getColumns()
+	{
+		return Collections.unmodifiableList(Arrays.asList(columns));
+	}
+
+	/**
+	 * Reads the next group of definitions, each as a map of column name to value.
+	 *
+	 * @return the definitions, or null at the end of the dump
+	 */
+	public List<Map<String, Object>> readRows() throws IOException
+	{
+		if (done)
+		{
+			return null;
+		}
+
+		int count = in.readInt();
+		if (count == 0)
+		{
+			done = true;
+			return null;
+		}
+
+		List<Map<String, Object>> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			rows.add(new LinkedHashMap<>());
+		}
+
+		for (int i = 0; i < columns.length; ++i)
+		{
+			for (Map<String, Object> row : rows)
+			{
+				row.put(columns[i], readValue(types[i]));
+			}
+		}
+		return rows;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		in.close();
+	}
+
+	private Object readValue(ColumnType type) throws IOException
+	{
+		switch (type)
+		{
+			case INT:
+				return in.readInt();
+			case SHORT:
+				return in.readShort();
+			case BYTE:
+				return in.readByte();
+			case BOOLEAN:
+				return in.readBoolean();
+			case CHAR:
+				return in.readChar();
+			case LONG:
+				return in.readLong();
+			case FLOAT:
+				return in.readFloat();
+			case DOUBLE:
+				return in.readDouble();
+			case STRING:
+				return readString();
+			case INT_ARRAY:
+			{
+				int length = in.readInt();
+				if (length == -1)
+				{
+					return null;
+				}
+
+				int[] array = new int[length];
+				for (int i = 0; i < length; ++i)
+				{
+					array[i] = in.readInt();
+				}
+				return array;
+			}
+			case SHORT_ARRAY:
+			{
+				int length = in.readInt();
+				if (length == -1)
+				{
+					return null;
+				}
+
+				short[] array = new short[length];
+				for (int i = 0; i < length; ++i)
+				{
+					array[i] = in.readShort();
+				}
+				return array;
+			}
+			case BYTE_ARRAY:
+			{
+				int length = in.readInt();
+				if (length == -1)
+				{
+					return null;
+				}
+
+				byte[] array = new byte[length];
+				in.readFully(array);
+				return array;
+			}
+			case STRING_ARRAY:
+			{
+				int length = in.readInt();
+				if (length == -1)
+				{
+					return null;
+				}
+
+				String[] array = new String[length];
+				for (int i = 0; i < length; ++i)
+				{
+					array[i] = readString();
+				}
+				return array;
+			}
+			case JSON:
+			{
+				String json = readString();
+				return json == null ? null : jsonParser.parse(json);
+			}
+			default:
+				throw new IllegalStateException();
+		}
+	}
+
+	private String readString() throws IOException
+	{
+		int length = in.readInt();
+		if (length == -1)
+		{
+			return null;
+		}
+
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes definitions column by column. The dump starts with a header:
+ * <pre>
+ * int magic, int version, string type, int columns, (string name, byte {@link ColumnType})[columns]
+ * </pre>
+ * followed by groups of up to {@value #ROW_GROUP_SIZE} definitions, each being the number of
+ * definitions in the group and then every value of each column in turn. A group of 0 definitions
+ * ends the dump. Strings and arrays are written as their length, or -1 for null, followed by their
+ * elements.
+ *
+ * @see ColumnarDefinitionReader
+ */
+class ColumnarDefinitionWriter implements DefinitionWriter
+{
+	static final int MAGIC = 0x524c4344; // RLCD
+	static final int VERSION = 1;
+	private static final int ROW_GROUP_SIZE = 4096;
+
+	private final DataOutputStream out;
+	private final Gson gson;
+	private final List<Object> rows = new ArrayList<>(ROW_GROUP_SIZE);
+	private Field[] fields;
+	private ColumnType[] types;
+
+	ColumnarDefinitionWriter(OutputStream out)
+	{
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.gson = new GsonBuilder()
+			.serializeSpecialFloatingPointValues()
+			.create();
+	}
+
+	@Override
+	public void write(Object definition) throws IOException
+	{
+		if (fields == null)
+		{
+			writeHeader(definition.getClass());
+		}
+
+		rows.add(definition);
+		if (rows.size() == ROW_GROUP_SIZE)
+		{
+			writeRows();
+		}
+	}
+
+	@Override
+	public void finish() throws IOException
+	{
+		if (fields == null)
+		{
+			writeHeader(null);
+		}
+
+		writeRows();
+		out.writeInt(0);
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		out.close();
+	}
+
+	private void writeHeader(Class<?> type) throws IOException
+	{
+		List<Field> fields = new ArrayList<>();
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+				{
+					continue;
+				}
+
+				field.setAccessible(true);
+				fields.add(field);
+			}
+		}
+
+		this.fields = fields.toArray(new Field[0]);
+		this.types = new ColumnType[this.fields.length];
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeString(type == null ? null : type.getSimpleName());
+		out.writeInt(this.fields.length);
+		for (int i = 0; i < this.fields.length; ++i)
+		{
+			types[i] = ColumnType.of(this.fields[i].getType());
+			writeString(this.fields[i].getName());
+			out.writeByte(types[i].ordinal());
+		}
+	}
+
+	private void writeRows() throws IOException
+	{
+		if (rows.isEmpty())
+		{
+			return;
+		}
+
+		out.writeInt(rows.size());
+		for (int i = 0; i < fields.length; ++i)
+		{
+			for (Object row : rows)
+			{
+				Object value;
+				try
+				{
+					value = fields[i].get(row);
+				}
+				catch (IllegalAccessException ex)
+				{
+					throw new IOException(ex);
+				}
+
+				writeValue(types[i], value);
+			}
+		}
+		rows.clear();
+	}
+
+	private void writeValue(ColumnType type, Object value) throws IOException
+	{
+		switch (type)
+		{
+			case INT:
+				out.writeInt((Integer) value);
+				break;
+			case SHORT:
+				out.writeShort((Short) value);
+				break;
+			case BYTE:
+				out.writeByte((Byte) value);
+				break;
+			case BOOLEAN:
+				out.writeBoolean((Boolean) value);
+				break;
+			case CHAR:
+				out.writeChar((Character) value);
+				break;
+			case LONG:
+				out.writeLong((Long) value);
+				break;
+			case FLOAT:
+				out.writeFloat((Float) value);
+				break;
+			case DOUBLE:
+				out.writeDouble((Double) value);
+				break;
+			case STRING:
+				writeString((String) value);
+				break;
+			case INT_ARRAY:
+			{
+				int[] array = (int[]) value;
+				out.writeInt(array == null ? -1 : array.length);
+				if (array != null)
+				{
+					for (int v : array)
+					{
+						out.writeInt(v);
+					}
+				}
+				break;
+			}
+			case SHORT_ARRAY:
+			{
+				short[] array = (short[]) value;
+				out.writeInt(array == null ? -1 : array.length);
+				if (array != null)
+				{
+					for (short v : array)
+					{
+						out.writeShort(v);
+					}
+				}
+				break;
+			}
+			case BYTE_ARRAY:
+			{
+				byte[] array = (byte[]) value;
+				out.writeInt(array == null ? -1 : array.length);
+				if (array != null)
+				{
+					out.write(array);
+				}
+				break;
+			}
+			case STRING_ARRAY:
+			{
+				String[] array = (String[]) value;
+				out.writeInt(array == null ? -1 : array.length);
+				if (array != null)
+				{
+					for (String v : array)
+					{
+						writeString(v);
+					}
+				}
+				break;
+			}
+			case JSON:
+				writeString(value == null ? null : gson.toJson(value));
+				break;
+		}
+	}
+
+	private void writeString(String value) throws IOException
+	{
+		if (value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+import net.runelite.cache.DefinitionType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports every definition of a type into a single compressed file, rather than one file per
+ * definition. Definitions are decoded in parallel and written in id order as they are decoded,
+ * so only a bounded number of them are held in memory at once.
+ */
+public class StreamingExporter
+{
+	private static final Logger logger = LoggerFactory.getLogger(StreamingExporter.class);
+
+	public enum Format
+	{
+		/**
+		 * gzipped json, one definition per line
+		 */
+		JSON_LINES(".jsonl.gz"),
+		/**
+		 * gzipped binary, stored column by column
+		 *
+		 * @see ColumnarDefinitionReader
+		 */
+		COLUMNAR(".col.gz");
+
+		private final String extension;
+
+		Format(String extension)
+		{
+			this.extension = extension;
+		}
+
+		public String getExtension()
+		{
+			return extension;
+		}
+	}
+
+	private final Store store;
+	private final int threads;
+
+	public StreamingExporter(Store store, int threads)
+	{
+		this.store = store;
+		this.threads = threads;
+	}
+
+	/**
+	 * Exports every type of definition which can be decoded, each to its own file.
+	 *
+	 * @param outDir directory to write to
+	 * @param format format to write
+	 * @throws IOException if a definition can't be read or the output can't be written
+	 */
+	public void exportAll(File outDir, Format format) throws IOException
+	{
+		outDir.mkdirs();
+
+		for (DefinitionType type : DefinitionType.values())
+		{
+			if (type.getDecoder() == null || store.findIndex(type.getIndex().getNumber()) == null)
+			{
+				continue;
+			}
+
+			// written aside and moved into place once complete, so a failed export
+			// doesn't leave a partial file in place of the previous one
+			File file = new File(outDir, type.getName() + format.getExtension());
+			File tmp = new File(outDir, file.getName() + ".tmp");
+			int count;
+			try
+			{
+				count = export(type, format, new FileOutputStream(tmp));
+			}
+			catch (IOException | RuntimeException ex)
+			{
+				tmp.delete();
+				throw ex;
+			}
+
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			logger.info("Exported {} {} definitions to {}", count, type.getName(), file);
+		}
+	}
+
+	/**
+	 * Exports every definition of a type.
+	 *
+	 * @param type type of definition, which must have a decoder
+	 * @param format format to write
+	 * @param out stream to write to, which is closed once written. If the export fails, the
+	 *            stream is closed without the end of the dump, so it can't be read as a complete one.
+	 * @return the number of definitions written
+	 * @throws IOException if a definition can't be read or the output can't be written
+	 */
+	public int export(DefinitionType type, Format format, OutputStream out) throws IOException
+	{
+		if (type.getDecoder() == null)
+		{
+			throw new IllegalArgumentException(type.getName() + " definitions can't be decoded");
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("definition-export-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			List<Callable<Object>> tasks = createTasks(type);
+
+			GZIPOutputStream gzip = new GZIPOutputStream(out, 1 << 16);
+			DefinitionWriter writer = format == Format.COLUMNAR
+				? new ColumnarDefinitionWriter(gzip)
+				: new JsonLinesDefinitionWriter(gzip);
+
+			// keep enough definitions in flight to keep every thread busy, writing them in order
+			int window = threads * 64;
+			Deque<Future<Object>> pending = new ArrayDeque<>(window);
+			int count = 0;
+
+			for (Callable<Object> task : tasks)
+			{
+				pending.add(executor.submit(task));
+				if (pending.size() >= window)
+				{
+					count += write(writer, pending.poll());
+				}
+			}
+
+			while (!pending.isEmpty())
+			{
+				count += write(writer, pending.poll());
+			}
+
+			writer.finish();
+			writer.close();
+			return count;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			// close the stream under the writer and gzip stream, so neither the end of the
+			// dump nor the gzip trailer is written and the output can't pass as complete
+			try
+			{
+				out.close();
+			}
+			catch (IOException closeEx)
+			{
+				ex.addSuppressed(closeEx);
+			}
+			throw ex;
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private List<Callable<Object>> createTasks(DefinitionType type) throws IOException
+	{
+		List<Callable<Object>> tasks = new ArrayList<>();
+		Index index = store.findIndex(type.getIndex().getNumber());
+		if (index == null)
+		{
+			return tasks;
+		}
+
+		Storage storage = store.getStorage();
+		DefinitionType.Decoder decoder = type.getDecoder();
+
+		if (type.getConfig() != null)
+		{
+			Archive archive = index.getArchive(type.getConfig().getId());
+			if (archive == null)
+			{
+				return tasks;
+			}
+
+			ArchiveFiles files = archive.getFiles(storage.loadArchive(archive));
+			List<FSFile> sorted = new ArrayList<>(files.getFiles());
+			sorted.sort(Comparator.comparing(FSFile::getFileId));
+			for (FSFile file : sorted)
+			{
+				tasks.add(() -> decoder.decode(file.getFileId(), file.getContents()));
+			}
+		}
+		else
+		{
+			List<Archive> sorted = new ArrayList<>(index.getArchives());
+			sorted.sort(Comparator.comparing(Archive::getArchiveId));
+			for (Archive archive : sorted)
+			{
+				tasks.add(() ->
+				{
+					byte[] data;
+					// storages aren't required to support concurrent reads
+					synchronized (storage)
+					{
+						data = storage.loadArchive(archive);
+					}
+
+					byte[] contents = archive.decompress(data);
+					return contents == null ? null : decoder.decode(archive.getArchiveId(), contents);
+				});
+			}
+		}
+
+		return tasks;
+	}
+
+	private static int write(DefinitionWriter writer, Future<Object> future) throws IOException
+	{
+		Object definition;
+		try
+		{
+			definition = future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while exporting definitions", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+
+		if (definition == null)
+		{
+			return 0;
+		}
+
+		writer.write(definition);
+		return 1;
+	}
+}
@@ -37,10 +37,14 @@ public class ItemLoader
 	private static final Logger logger = LoggerFactory.getLogger(ItemLoader.class);
 
 	public ItemDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public ItemDefinition load(int id, InputStream is)
 	{
 		ItemDefinition def = new ItemDefinition(id);
-		InputStream is = new InputStream(b);
-		
+
 		while (true)
 		{
 			int opcode = is.readUnsignedByte();
@@ -125,7 +129,7 @@ public class ItemLoader
 		}
 		else if (opcode >= 30 && opcode < 35)
 		{
-			def.options[opcode - 30] = stream.readString();
+			def.options[opcode - 30] = stream.readInternedString();
 			if (def.options[opcode - 30].equalsIgnoreCase("Hidden"))
 			{
 				def.options[opcode - 30] = null;
@@ -133,7 +137,7 @@ public class ItemLoader
 		}
 		else if (opcode >= 35 && opcode < 40)
 		{
-			def.interfaceOptions[opcode - 35] = stream.readString();
+			def.interfaceOptions[opcode - 35] = stream.readInternedString();
 		}
 		else if (opcode == 40)
 		{
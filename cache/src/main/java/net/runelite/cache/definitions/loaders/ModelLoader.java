@@ -2,10 +2,36 @@ package net.runelite.cache.definitions.loaders;
 
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.io.InputStream;
+import net.runelite.cache.models.PackedModel;
 
 public class ModelLoader
 {
 	public ModelDefinition load(int modelId, byte[] b)
+	{
+		ModelDefinition def = decode(modelId, b);
+
+		def.computeNormals();
+		def.computeTextureUVCoordinates();
+		def.computeAnimationTables();
+
+		return def;
+	}
+
+	/**
+	 * Loads a model into its packed form. Normals are not computed until
+	 * they are first requested from the returned model.
+	 * <p>
+	 * The model is decoded into a {@link ModelDefinition} first and then packed. The packed
+	 * model shares the definition's per-face and per-vertex attribute arrays, and only the
+	 * vertex positions, face indices and texture triangles are copied into interleaved arrays,
+	 * so those are briefly held twice while the model is loaded.
+	 */
+	public PackedModel loadPacked(int modelId, byte[] b)
+	{
+		return PackedModel.pack(decode(modelId, b));
+	}
+
+	private ModelDefinition decode(int modelId, byte[] b)
 	{
 		ModelDefinition def = new ModelDefinition();
 		def.id = modelId;
@@ -19,10 +45,6 @@ public class ModelLoader
 			this.load2(def, b);
 		}
 
-		def.computeNormals();
-		def.computeTextureUVCoordinates();
-		def.computeAnimationTables();
-
 		return def;
 	}
 
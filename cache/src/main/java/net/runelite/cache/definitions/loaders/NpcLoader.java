@@ -36,9 +36,13 @@ public class NpcLoader
 	private static final Logger logger = LoggerFactory.getLogger(NpcLoader.class);
 
 	public NpcDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public NpcDefinition load(int id, InputStream is)
 	{
 		NpcDefinition def = new NpcDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -102,7 +106,7 @@ public class NpcLoader
 		}
 		else if (opcode >= 30 && opcode < 35)
 		{
-			def.options[opcode - 30] = stream.readString();
+			def.options[opcode - 30] = stream.readInternedString();
 			if (def.options[opcode - 30].equalsIgnoreCase("Hidden"))
 			{
 				def.options[opcode - 30] = null;
@@ -36,9 +36,13 @@ public class ObjectLoader
 	private static final Logger logger = LoggerFactory.getLogger(ObjectLoader.class);
 
 	public ObjectDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public ObjectDefinition load(int id, InputStream is)
 	{
 		ObjectDefinition def = new ObjectDefinition();
-		InputStream is = new InputStream(b);
 
 		def.setId(id);
 
@@ -158,7 +162,7 @@ public class ObjectLoader
 		else if (opcode >= 30 && opcode < 35)
 		{
 			String[] actions = def.getActions();
-			actions[opcode - 30] = is.readString();
+			actions[opcode - 30] = is.readInternedString();
 			if (actions[opcode - 30].equalsIgnoreCase("Hidden"))
 			{
 				actions[opcode - 30] = null;
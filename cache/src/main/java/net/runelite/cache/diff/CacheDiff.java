@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.runelite.cache.DefinitionType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Compares two caches, such as two revisions of the same cache.
+ * <p>
+ * Indexes and archives whose crc and revision are unchanged are skipped without being
+ * read. The remaining archives are decompressed and decoded in parallel, and definitions
+ * of known types are compared field by field. Models and sprites are only compared by their
+ * contents, as a field by field comparison of them isn't useful.
+ */
+public class CacheDiff
+{
+	private static final Gson GSON = new GsonBuilder()
+		.serializeSpecialFloatingPointValues()
+		.create();
+
+	private final Store from;
+	private final Store to;
+
+	public CacheDiff(Store from, Store to)
+	{
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Compares the caches. Both stores must already be loaded.
+	 *
+	 * @param threads number of threads to decode changed archives with
+	 * @return the changed archives and definitions
+	 * @throws IOException if a changed archive can't be read
+	 */
+	public CacheDiffReport diff(int threads) throws IOException
+	{
+		List<ArchiveChange> archiveChanges = new ArrayList<>();
+		List<Callable<List<DefinitionChange>>> tasks = new ArrayList<>();
+
+		Set<Integer> indexIds = new TreeSet<>();
+		from.getIndexes().forEach(index -> indexIds.add(index.getId()));
+		to.getIndexes().forEach(index -> indexIds.add(index.getId()));
+
+		for (int indexId : indexIds)
+		{
+			Index fromIndex = from.findIndex(indexId);
+			Index toIndex = to.findIndex(indexId);
+			if (fromIndex != null && toIndex != null
+				&& fromIndex.getCrc() == toIndex.getCrc() && fromIndex.getRevision() == toIndex.getRevision())
+			{
+				continue;
+			}
+
+			Map<Integer, Archive> fromArchives = getArchives(fromIndex);
+			Map<Integer, Archive> toArchives = getArchives(toIndex);
+
+			Set<Integer> archiveIds = new TreeSet<>(fromArchives.keySet());
+			archiveIds.addAll(toArchives.keySet());
+
+			for (int archiveId : archiveIds)
+			{
+				Archive fromArchive = fromArchives.get(archiveId);
+				Archive toArchive = toArchives.get(archiveId);
+
+				ChangeType change;
+				if (fromArchive == null)
+				{
+					change = ChangeType.ADDED;
+				}
+				else if (toArchive == null)
+				{
+					change = ChangeType.REMOVED;
+				}
+				else if (fromArchive.getCrc() == toArchive.getCrc() && fromArchive.getRevision() == toArchive.getRevision())
+				{
+					continue;
+				}
+				else
+				{
+					change = ChangeType.CHANGED;
+				}
+
+				archiveChanges.add(new ArchiveChange(indexId, archiveId, change));
+
+				if (indexId == IndexType.CONFIGS.getNumber())
+				{
+					DefinitionType type = DefinitionType.forConfig(archiveId);
+					if (type != null)
+					{
+						tasks.add(() -> diffFiles(type, fromArchive, toArchive));
+					}
+				}
+				else
+				{
+					DefinitionType type = DefinitionType.forIndex(indexId);
+					if (type != null)
+					{
+						tasks.add(() -> diffArchive(type, archiveId, fromArchive, toArchive));
+					}
+				}
+			}
+		}
+
+		List<DefinitionChange> definitionChanges = runAll(tasks, threads);
+		definitionChanges.sort(Comparator.comparing(DefinitionChange::getType)
+			.thenComparing(DefinitionChange::getId));
+
+		return new CacheDiffReport(archiveChanges, definitionChanges);
+	}
+
+	private List<DefinitionChange> diffFiles(DefinitionType type, Archive fromArchive, Archive toArchive) throws IOException
+	{
+		Map<Integer, byte[]> fromFiles = loadFiles(from, fromArchive);
+		Map<Integer, byte[]> toFiles = loadFiles(to, toArchive);
+
+		Set<Integer> fileIds = new TreeSet<>(fromFiles.keySet());
+		fileIds.addAll(toFiles.keySet());
+
+		List<DefinitionChange> changes = new ArrayList<>();
+		for (int fileId : fileIds)
+		{
+			DefinitionChange change = diffDefinition(type, fileId, fromFiles.get(fileId), toFiles.get(fileId));
+			if (change != null)
+			{
+				changes.add(change);
+			}
+		}
+		return changes;
+	}
+
+	private List<DefinitionChange> diffArchive(DefinitionType type, int archiveId, Archive fromArchive, Archive toArchive) throws IOException
+	{
+		byte[] fromData = fromArchive == null ? null : fromArchive.decompress(loadArchive(from, fromArchive));
+		byte[] toData = toArchive == null ? null : toArchive.decompress(loadArchive(to, toArchive));
+
+		DefinitionChange change = diffDefinition(type, archiveId, fromData, toData);
+		return change == null ? Collections.emptyList() : Collections.singletonList(change);
+	}
+
+	private static DefinitionChange diffDefinition(DefinitionType type, int id, byte[] fromData, byte[] toData) throws IOException
+	{
+		if (fromData == null && toData == null)
+		{
+			return null;
+		}
+		else if (fromData == null)
+		{
+			return new DefinitionChange(type.getName(), id, ChangeType.ADDED, null);
+		}
+		else if (toData == null)
+		{
+			return new DefinitionChange(type.getName(), id, ChangeType.REMOVED, null);
+		}
+		else if (Arrays.equals(fromData, toData))
+		{
+			// archives can change crc without their contents changing, eg. by being recompressed
+			return null;
+		}
+
+		Map<String, FieldChange> fields = null;
+		if (type.getDecoder() != null)
+		{
+			fields = diffFields(type.getDecoder().decode(id, fromData), type.getDecoder().decode(id, toData));
+			if (fields.isEmpty())
+			{
+				return null;
+			}
+		}
+
+		return new DefinitionChange(type.getName(), id, ChangeType.CHANGED, fields);
+	}
+
+	private static Map<String, FieldChange> diffFields(Object fromDef, Object toDef)
+	{
+		JsonObject fromJson = GSON.toJsonTree(fromDef).getAsJsonObject();
+		JsonObject toJson = GSON.toJsonTree(toDef).getAsJsonObject();
+
+		Set<String> names = new TreeSet<>(fromJson.keySet());
+		names.addAll(toJson.keySet());
+
+		Map<String, FieldChange> fields = new TreeMap<>();
+		for (String name : names)
+		{
+			JsonElement fromValue = fromJson.get(name);
+			JsonElement toValue = toJson.get(name);
+			if (!Objects.equals(fromValue, toValue))
+			{
+				fields.put(name, new FieldChange(fromValue, toValue));
+			}
+		}
+		return fields;
+	}
+
+	private static Map<Integer, byte[]> loadFiles(Store store, Archive archive) throws IOException
+	{
+		if (archive == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		ArchiveFiles files = archive.getFiles(loadArchive(store, archive));
+		Map<Integer, byte[]> contents = new HashMap<>();
+		for (FSFile file : files.getFiles())
+		{
+			contents.put(file.getFileId(), file.getContents());
+		}
+		return contents;
+	}
+
+	private static byte[] loadArchive(Store store, Archive archive) throws IOException
+	{
+		Storage storage = store.getStorage();
+		// storages aren't required to support concurrent reads
+		synchronized (storage)
+		{
+			return storage.loadArchive(archive);
+		}
+	}
+
+	private static Map<Integer, Archive> getArchives(Index index)
+	{
+		Map<Integer, Archive> archives = new HashMap<>();
+		if (index != null)
+		{
+			for (Archive archive : index.getArchives())
+			{
+				archives.put(archive.getArchiveId(), archive);
+			}
+		}
+		return archives;
+	}
+
+	private static List<DefinitionChange> runAll(List<Callable<List<DefinitionChange>>> tasks, int threads) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("cache-diff-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			List<Future<List<DefinitionChange>>> futures = new ArrayList<>(tasks.size());
+			for (Callable<List<DefinitionChange>> task : tasks)
+			{
+				futures.add(executor.submit(task));
+			}
+
+			List<DefinitionChange> changes = new ArrayList<>();
+			for (Future<List<DefinitionChange>> future : futures)
+			{
+				changes.addAll(future.get());
+			}
+			return changes;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while comparing caches", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import net.runelite.cache.index.FileData;
+
+/**
+ * Copies a cache between storage formats, for example from a {@link net.runelite.cache.fs.jagex.DiskStorage}
+ * to a {@link net.runelite.cache.fs.flat.FlatStorage} or {@link net.runelite.cache.fs.flat.BinaryFlatStorage}.
+ */
+public class StorageConverter
+{
+	/**
+	 * Copies every index and archive of a loaded store into another storage, and saves it.
+	 *
+	 * @param source the store to copy, which must already be loaded
+	 * @param target the storage to copy into, which should be empty
+	 * @throws IOException if an archive can't be read or the target can't be written
+	 */
+	public static void convert(Store source, Storage target) throws IOException
+	{
+		try (Store store = new Store(target))
+		{
+			for (Index sourceIndex : source.getIndexes())
+			{
+				Index index = store.findIndex(sourceIndex.getId());
+				if (index == null)
+				{
+					index = store.addIndex(sourceIndex.getId());
+				}
+
+				index.setProtocol(sourceIndex.getProtocol());
+				index.setRevision(sourceIndex.getRevision());
+				index.setCompression(sourceIndex.getCompression());
+				index.setCrc(sourceIndex.getCrc());
+				index.setNamed(sourceIndex.isNamed());
+
+				for (Archive sourceArchive : sourceIndex.getArchives())
+				{
+					Archive archive = index.addArchive(sourceArchive.getArchiveId());
+					archive.setNameHash(sourceArchive.getNameHash());
+					archive.setRevision(sourceArchive.getRevision());
+					archive.setCrc(sourceArchive.getCrc());
+					archive.setCompression(sourceArchive.getCompression());
+					archive.setHash(sourceArchive.getHash());
+
+					FileData[] sourceFiles = sourceArchive.getFileData();
+					FileData[] files = new FileData[sourceFiles.length];
+					for (int i = 0; i < files.length; ++i)
+					{
+						files[i] = new FileData();
+						files[i].setId(sourceFiles[i].getId());
+						files[i].setNameHash(sourceFiles[i].getNameHash());
+					}
+					archive.setFileData(files);
+
+					byte[] contents = source.getStorage().loadArchive(sourceArchive);
+					if (contents != null)
+					{
+						target.saveArchive(archive, contents);
+					}
+				}
+			}
+
+			store.save();
+		}
+	}
+}
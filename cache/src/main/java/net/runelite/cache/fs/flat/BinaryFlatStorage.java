@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary variant of {@link FlatStorage}. The cache is stored as a table of
+ * index and archive metadata, sorted by index and archive id, and a payload
+ * file holding the contents of every archive back to back.
+ * <p>
+ * The payload file is memory mapped rather than read onto the heap, and archive
+ * contents are only copied out of it when they are loaded. As a mapped file can't
+ * be replaced on every platform, each save writes a new payload file, named after
+ * a generation number stored in the table, and deletes the previous ones.
+ */
+public class BinaryFlatStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(BinaryFlatStorage.class);
+
+	static final String TABLE_FILE = "cache.flattbl";
+	static final String PAYLOAD_FILE = "cache.%d.flatdat";
+	private static final Pattern PAYLOAD_PATTERN = Pattern.compile("cache\\.(\\d+)\\.flatdat");
+
+	private static final int MAGIC = 0x464c4154; // FLAT
+	private static final int VERSION = 1;
+
+	private final File directory;
+
+	private int generation;
+	private ByteBuffer payload;
+	// sorted by index id << 32 | archive id
+	private long[] keys = new long[0];
+	private int[] offsets = new int[0];
+	private int[] lengths = new int[0];
+	// archives saved since the payload was last written
+	private final Map<Long, byte[]> saved = new HashMap<>();
+
+	public BinaryFlatStorage(File directory)
+	{
+		this.directory = directory;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		File table = new File(directory, TABLE_FILE);
+		if (!table.exists())
+		{
+			return;
+		}
+
+		try (DataInputStream in = openTable(table))
+		{
+			in.skipBytes(4); // generation
+			int indexCount = in.readInt();
+			for (int i = 0; i < indexCount; ++i)
+			{
+				store.addIndex(in.readInt());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		payload = null;
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		File table = new File(directory, TABLE_FILE);
+		if (!table.exists())
+		{
+			return;
+		}
+
+		int generation;
+		try (DataInputStream in = openTable(table))
+		{
+			generation = in.readInt();
+			int indexCount = in.readInt();
+			in.skipBytes(indexCount * 4);
+
+			int archiveCount = in.readInt();
+			long[] keys = new long[archiveCount];
+			int[] offsets = new int[archiveCount];
+			int[] lengths = new int[archiveCount];
+			int count = 0;
+
+			for (int i = 0; i < indexCount; ++i)
+			{
+				Index index = store.findIndex(in.readInt());
+				index.setProtocol(in.readInt());
+				index.setRevision(in.readInt());
+				index.setCompression(in.readInt());
+				index.setCrc(in.readInt());
+				index.setNamed(in.readBoolean());
+
+				int archives = in.readInt();
+				for (int j = 0; j < archives; ++j)
+				{
+					Archive archive = index.addArchive(in.readInt());
+					archive.setNameHash(in.readInt());
+					archive.setRevision(in.readInt());
+					archive.setCrc(in.readInt());
+					archive.setCompression(in.readInt());
+
+					int hashLength = in.readInt();
+					if (hashLength != -1)
+					{
+						byte[] hash = new byte[hashLength];
+						in.readFully(hash);
+						archive.setHash(hash);
+					}
+
+					FileData[] fileData = new FileData[in.readInt()];
+					for (int k = 0; k < fileData.length; ++k)
+					{
+						FileData fd = new FileData();
+						fd.setId(in.readInt());
+						fd.setNameHash(in.readInt());
+						fileData[k] = fd;
+					}
+					archive.setFileData(fileData);
+
+					int offset = in.readInt();
+					int length = in.readInt();
+					if (length != -1)
+					{
+						long key = key(index.getId(), archive.getArchiveId());
+						if (count > 0 && key <= keys[count - 1])
+						{
+							throw new IOException("archive table is not sorted at " + index.getId() + "/" + archive.getArchiveId());
+						}
+
+						keys[count] = key;
+						offsets[count] = offset;
+						lengths[count] = length;
+						++count;
+					}
+				}
+			}
+
+			this.keys = Arrays.copyOf(keys, count);
+			this.offsets = Arrays.copyOf(offsets, count);
+			this.lengths = Arrays.copyOf(lengths, count);
+		}
+
+		saved.clear();
+		this.generation = generation;
+		payload = map(payloadFile(generation));
+		deleteOldPayloads();
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		File table = new File(directory, TABLE_FILE + ".tmp");
+		int nextGeneration = generation + 1;
+		File payloadFile = payloadFile(nextGeneration);
+
+		store.getIndexes().sort(Comparator.comparing(Index::getId));
+
+		int archiveCount = 0;
+		for (Index idx : store.getIndexes())
+		{
+			archiveCount += idx.getArchives().size();
+		}
+
+		long[] keys = new long[archiveCount];
+		int[] offsets = new int[archiveCount];
+		int[] lengths = new int[archiveCount];
+		int count = 0;
+
+		try (DataOutputStream tableOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(table)));
+			BufferedOutputStream payloadOut = new BufferedOutputStream(new FileOutputStream(payloadFile)))
+		{
+			List<Index> indexes = store.getIndexes();
+			tableOut.writeInt(MAGIC);
+			tableOut.writeInt(VERSION);
+			tableOut.writeInt(nextGeneration);
+			tableOut.writeInt(indexes.size());
+			for (Index idx : indexes)
+			{
+				tableOut.writeInt(idx.getId());
+			}
+			tableOut.writeInt(archiveCount);
+
+			long offset = 0;
+			for (Index idx : indexes)
+			{
+				tableOut.writeInt(idx.getId());
+				tableOut.writeInt(idx.getProtocol());
+				tableOut.writeInt(idx.getRevision());
+				tableOut.writeInt(idx.getCompression());
+				tableOut.writeInt(idx.getCrc());
+				tableOut.writeBoolean(idx.isNamed());
+
+				idx.getArchives().sort(Comparator.comparing(Archive::getArchiveId));
+				tableOut.writeInt(idx.getArchives().size());
+				for (Archive archive : idx.getArchives())
+				{
+					tableOut.writeInt(archive.getArchiveId());
+					tableOut.writeInt(archive.getNameHash());
+					tableOut.writeInt(archive.getRevision());
+					tableOut.writeInt(archive.getCrc());
+					tableOut.writeInt(archive.getCompression());
+
+					byte[] hash = archive.getHash();
+					if (hash != null)
+					{
+						tableOut.writeInt(hash.length);
+						tableOut.write(hash);
+					}
+					else
+					{
+						tableOut.writeInt(-1);
+					}
+
+					FileData[] fileData = archive.getFileData();
+					tableOut.writeInt(fileData.length);
+					for (FileData fd : fileData)
+					{
+						tableOut.writeInt(fd.getId());
+						tableOut.writeInt(fd.getNameHash());
+					}
+
+					byte[] contents = store.getStorage().loadArchive(archive);
+					if (contents != null)
+					{
+						if (offset + contents.length > Integer.MAX_VALUE)
+						{
+							throw new IOException("flat cache payload is too large to map");
+						}
+
+						payloadOut.write(contents);
+
+						tableOut.writeInt((int) offset);
+						tableOut.writeInt(contents.length);
+
+						keys[count] = key(idx.getId(), archive.getArchiveId());
+						offsets[count] = (int) offset;
+						lengths[count] = contents.length;
+						++count;
+
+						offset += contents.length;
+					}
+					else
+					{
+						tableOut.writeInt(0);
+						tableOut.writeInt(-1);
+					}
+				}
+			}
+		}
+
+		// the payload went to a new file, as the previous one may still be mapped, so
+		// only the table, which is never mapped, is moved over the previous one
+		Files.move(table.toPath(), new File(directory, TABLE_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		this.keys = Arrays.copyOf(keys, count);
+		this.offsets = Arrays.copyOf(offsets, count);
+		this.lengths = Arrays.copyOf(lengths, count);
+		saved.clear();
+		generation = nextGeneration;
+		payload = map(payloadFile);
+		deleteOldPayloads();
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		byte[] data = saved.get(key(archive.getIndex().getId(), archive.getArchiveId()));
+		if (data != null)
+		{
+			return data;
+		}
+
+		ByteBuffer buffer = loadArchiveBuffer(archive);
+		if (buffer == null)
+		{
+			return null;
+		}
+
+		data = new byte[buffer.remaining()];
+		buffer.get(data);
+		return data;
+	}
+
+	/**
+	 * Returns the contents of an archive as a read only view of the mapped payload,
+	 * without copying it.
+	 *
+	 * @param archive the archive to load
+	 * @return the archive contents, or null if the archive has no contents
+	 */
+	public ByteBuffer loadArchiveBuffer(Archive archive)
+	{
+		long key = key(archive.getIndex().getId(), archive.getArchiveId());
+		byte[] data = saved.get(key);
+		if (data != null)
+		{
+			return ByteBuffer.wrap(data).asReadOnlyBuffer();
+		}
+
+		int idx = Arrays.binarySearch(keys, key);
+		if (idx < 0 || payload == null)
+		{
+			return null;
+		}
+
+		ByteBuffer buffer = payload.duplicate();
+		buffer.position(offsets[idx]);
+		buffer.limit(offsets[idx] + lengths[idx]);
+		return buffer.slice();
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] bytes) throws IOException
+	{
+		saved.put(key(archive.getIndex().getId(), archive.getArchiveId()), bytes);
+	}
+
+	private File payloadFile(int generation)
+	{
+		return new File(directory, String.format(PAYLOAD_FILE, generation));
+	}
+
+	/**
+	 * Deletes the payload files of previous saves, and of saves which failed.
+	 */
+	private void deleteOldPayloads()
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			Matcher matcher = PAYLOAD_PATTERN.matcher(file.getName());
+			if (matcher.matches() && !matcher.group(1).equals(Integer.toString(generation)) && !file.delete())
+			{
+				// the file is still mapped, it is deleted by a later save or load instead
+				logger.debug("Unable to delete old payload {}", file);
+			}
+		}
+	}
+
+	private static DataInputStream openTable(File file) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try
+		{
+			if (in.readInt() != MAGIC)
+			{
+				throw new IOException(file + " is not a binary flat cache");
+			}
+
+			int version = in.readInt();
+			if (version != VERSION)
+			{
+				throw new IOException("unsupported binary flat cache version " + version);
+			}
+		}
+		catch (IOException ex)
+		{
+			in.close();
+			throw ex;
+		}
+		return in;
+	}
+
+	private static ByteBuffer map(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			// the mapping remains valid once the channel is closed
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	private static long key(int indexId, int archiveId)
+	{
+		return (long) indexId << 32 | archiveId;
+	}
+}
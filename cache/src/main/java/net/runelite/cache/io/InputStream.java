@@ -24,8 +24,10 @@
  */
 package net.runelite.cache.io;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 public class InputStream extends java.io.InputStream
 {
@@ -39,23 +41,43 @@ public class InputStream extends java.io.InputStream
 			'\u017e', '\u0178'
 		};
 
-	private final ByteBuffer buffer;
+	private static final byte[] EMPTY = new byte[0];
+
+	private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+	// reads are bounds checked by the array accesses themselves
+	private byte[] buffer;
+	private int offset;
+
+	public InputStream()
+	{
+		this(EMPTY);
+	}
 
 	public InputStream(byte[] buffer)
 	{
-		this.buffer = ByteBuffer.wrap(buffer);
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Resets this stream to read from the start of another buffer, so one stream can be
+	 * reused for many buffers
+	 */
+	public void setBuffer(byte[] buffer)
+	{
+		this.buffer = buffer;
+		this.offset = 0;
 	}
 
 	public byte[] getArray()
 	{
-		assert buffer.hasArray();
-		return buffer.array();
+		return buffer;
 	}
 
 	@Override
 	public String toString()
 	{
-		return "InputStream{" + "buffer=" + buffer + '}';
+		return "InputStream{" + "offset=" + offset + ", length=" + buffer.length + '}';
 	}
 
 	public int read24BitInt()
@@ -65,74 +87,88 @@ public class InputStream extends java.io.InputStream
 
 	public void skip(int length)
 	{
-		int pos = buffer.position();
-		pos += length;
-		buffer.position(pos);
+		setOffset(offset + length);
 	}
 
 	public void setOffset(int offset)
 	{
-		buffer.position(offset);
+		if (offset < 0 || offset > buffer.length)
+		{
+			throw new IllegalArgumentException("offset " + offset + " is out of bounds for length " + buffer.length);
+		}
+
+		this.offset = offset;
 	}
 
 	public int getOffset()
 	{
-		return buffer.position();
+		return offset;
 	}
 
 	public int getLength()
 	{
-		return buffer.limit();
+		return buffer.length;
 	}
 
 	public int remaining()
 	{
-		return buffer.remaining();
+		return buffer.length - offset;
 	}
 
 	public byte readByte()
 	{
-		return buffer.get();
+		return buffer[offset++];
 	}
 
 	public void readBytes(byte[] buffer, int off, int len)
 	{
-		this.buffer.get(buffer, off, len);
+		if (len > remaining())
+		{
+			throw new IndexOutOfBoundsException();
+		}
+
+		System.arraycopy(this.buffer, offset, buffer, off, len);
+		offset += len;
 	}
 
 	public void readBytes(byte[] buffer)
 	{
-		this.buffer.get(buffer);
+		readBytes(buffer, 0, buffer.length);
 	}
 
 	public int readUnsignedByte()
 	{
-		return this.readByte() & 0xFF;
+		return buffer[offset++] & 0xFF;
 	}
 
 	public int readUnsignedShort()
 	{
-		return buffer.getShort() & 0xFFFF;
+		int value = (buffer[offset] & 0xFF) << 8 | buffer[offset + 1] & 0xFF;
+		offset += 2;
+		return value;
 	}
 
 	public short readShort()
 	{
-		return buffer.getShort();
+		return (short) readUnsignedShort();
 	}
 
 	public int readInt()
 	{
-		return buffer.getInt();
+		int value = buffer[offset] << 24 | (buffer[offset + 1] & 0xFF) << 16
+			| (buffer[offset + 2] & 0xFF) << 8 | buffer[offset + 3] & 0xFF;
+		offset += 4;
+		return value;
 	}
 
 	public byte peek()
 	{
-		return buffer.get(buffer.position());
+		return buffer[offset];
 	}
 
 	public int readBigSmart()
 	{
-		return peek() >= 0 ? (this.readUnsignedShort() & 0xFFFF) : (this.readInt() & Integer.MAX_VALUE);
+		return peek() >= 0 ? this.readUnsignedShort() : (this.readInt() & Integer.MAX_VALUE);
 	}
 
 	public int readBigSmart2()
@@ -147,13 +183,13 @@ public class InputStream extends java.io.InputStream
 
 	public int readShortSmart()
 	{
-		int peek = this.peek() & 0xFF;
+		int peek = buffer[offset] & 0xFF;
 		return peek < 128 ? this.readUnsignedByte() - 64 : this.readUnsignedShort() - 0xc000;
 	}
 
 	public int readUnsignedShortSmart()
 	{
-		int peek = this.peek() & 0xFF;
+		int peek = buffer[offset] & 0xFF;
 		return peek < 128 ? this.readUnsignedByte() : this.readUnsignedShort() - 0x8000;
 	}
 
@@ -173,16 +209,30 @@ public class InputStream extends java.io.InputStream
 
 	public String readString()
 	{
-		StringBuilder sb = new StringBuilder();
+		int start = offset;
+		int end = start;
+		boolean latin1 = true;
 
-		for (; ; )
+		for (int ch; (ch = buffer[end] & 0xFF) != 0; ++end)
 		{
-			int ch = this.readUnsignedByte();
-
-			if (ch == 0)
+			if (ch >= 128 && ch < 160)
 			{
-				break;
+				latin1 = false;
 			}
+		}
+
+		offset = end + 1;
+
+		if (latin1)
+		{
+			// outside of 128-160 cp1252 matches latin 1
+			return new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+		}
+
+		char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; ++i)
+		{
+			int ch = buffer[start + i] & 0xFF;
 
 			if (ch >= 128 && ch < 160)
 			{
@@ -195,9 +245,18 @@ public class InputStream extends java.io.InputStream
 				ch = var7;
 			}
 
-			sb.append((char) ch);
+			chars[i] = (char) ch;
 		}
-		return sb.toString();
+		return new String(chars);
+	}
+
+	/**
+	 * Reads a string, returning a shared instance for strings which are read often,
+	 * such as menu options
+	 */
+	public String readInternedString()
+	{
+		return STRINGS.intern(readString());
 	}
 
 	public String readStringOrNull()
@@ -228,8 +287,8 @@ public class InputStream extends java.io.InputStream
 
 	public byte[] getRemaining()
 	{
-		byte[] b = new byte[buffer.remaining()];
-		buffer.get(b);
+		byte[] b = new byte[remaining()];
+		readBytes(b);
 		return b;
 	}
 
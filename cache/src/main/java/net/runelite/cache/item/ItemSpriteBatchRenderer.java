@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.PackedModelCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Draws the sprites of many items at once, across several threads.
+ * <p>
+ * The textures and color palette are prepared once up front, and decoded models
+ * are cached so that items sharing a model, such as noted and placeholder variants,
+ * only decode it once.
+ */
+public class ItemSpriteBatchRenderer
+{
+	private static final Logger logger = LoggerFactory.getLogger(ItemSpriteBatchRenderer.class);
+
+	private static final long MODEL_CACHE_BYTES = 128L << 20;
+
+	/**
+	 * Receives drawn item sprites. Sprites are delivered from the drawing threads, so
+	 * implementations must be thread safe.
+	 */
+	public interface Sink
+	{
+		void accept(int itemId, int quantity, BufferedImage image) throws IOException;
+	}
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider rsTextureProvider;
+	private final int[] colorPalette;
+
+	public ItemSpriteBatchRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = new PackedModelCache(modelProvider, MODEL_CACHE_BYTES);
+		this.rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.colorPalette = ItemSpriteFactory.createColorPalette();
+
+		// textures are generated the first time they are loaded, which modifies the shared
+		// texture definitions and their sprites, so load them all before drawing concurrently
+		for (TextureDefinition texture : textureProvider.provide())
+		{
+			rsTextureProvider.load(texture.getId());
+		}
+	}
+
+	/**
+	 * Draws the sprite of each item with a quantity of 1, as well as one sprite for each
+	 * of the item's stack variants. Items which fail to draw are logged and skipped.
+	 *
+	 * @param itemIds ids of the items to draw
+	 * @param border border type, see {@link ItemSpriteFactory#createSprite}
+	 * @param shadowColor shadow color, or 0 for none
+	 * @param threads number of threads to draw with
+	 * @param sink receives the drawn sprites
+	 * @return the number of sprites drawn
+	 * @throws IOException if the sink fails, which stops the remaining items from being drawn
+	 */
+	public int render(Iterable<Integer> itemIds, int border, int shadowColor, int threads, Sink sink) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("item-sprites-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			AtomicInteger count = new AtomicInteger();
+			List<Future<Void>> futures = new ArrayList<>();
+
+			for (int itemId : itemIds)
+			{
+				// an item and its stack variants are drawn by a single task, as drawing
+				// a noted item updates its definition
+				futures.add(executor.submit(() ->
+				{
+					for (int quantity : getQuantities(itemId))
+					{
+						BufferedImage image;
+						try
+						{
+							image = ItemSpriteFactory.createSprite(itemProvider, modelProvider, rsTextureProvider, colorPalette,
+								itemId, quantity, border, shadowColor, false);
+						}
+						catch (Exception ex)
+						{
+							logger.warn("error drawing item {} x {}", itemId, quantity, ex);
+							continue;
+						}
+
+						if (image != null)
+						{
+							sink.accept(itemId, quantity, image);
+							count.incrementAndGet();
+						}
+					}
+					return null;
+				}));
+			}
+
+			for (Future<Void> future : futures)
+			{
+				future.get();
+			}
+
+			return count.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while drawing items", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private SortedSet<Integer> getQuantities(int itemId) throws IOException
+	{
+		SortedSet<Integer> quantities = new TreeSet<>();
+		quantities.add(1);
+
+		ItemDefinition item = itemProvider.provide(itemId);
+		if (item != null && item.countObj != null)
+		{
+			for (int i = 0; i < item.countObj.length; ++i)
+			{
+				if (item.countCo[i] != 0)
+				{
+					quantities.add(item.countCo[i]);
+				}
+			}
+		}
+
+		return quantities;
+	}
+}
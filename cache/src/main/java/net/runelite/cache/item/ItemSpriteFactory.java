@@ -37,18 +37,44 @@ import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
+	private static final double BRIGHTNESS = 0.6d;
+
 	public static final BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		return createSprite(itemProvider, modelProvider, rsTextureProvider, createColorPalette(),
+			itemId, quantity, border, shadowColor, noted);
+	}
+
+	/**
+	 * Creates an item sprite using an existing texture provider and color palette, which
+	 * lets callers drawing many sprites build them only once.
+	 *
+	 * @see #createColorPalette()
+	 */
+	static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
+		RSTextureProvider rsTextureProvider, int[] colorPalette,
+		int itemId, int quantity, int border, int shadowColor,
+		boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, rsTextureProvider, colorPalette,
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
+	/**
+	 * Builds the color palette item sprites are drawn with.
+	 */
+	static int[] createColorPalette()
+	{
+		return new ColorPalette(BRIGHTNESS, 0, 512).getColorPalette();
+	}
+
 	private static final SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+		RSTextureProvider rsTextureProvider, int[] colorPalette,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -86,7 +112,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, rsTextureProvider, colorPalette,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -95,7 +121,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, rsTextureProvider, colorPalette,
 				item.boughtId, quantity, border, shadowColor, false);
 			if (auxSpritePixels == null)
 			{
@@ -104,7 +130,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, rsTextureProvider, colorPalette,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -112,11 +138,9 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
 		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(0.6d);
+		graphics.colorPalette = colorPalette;
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A buffered writer for ascii text formats such as obj and mtl. Integers are
+ * formatted straight into the byte buffer, without going through strings.
+ */
+class AsciiWriter implements Closeable
+{
+	private final OutputStream out;
+	private final byte[] buffer;
+	private int position;
+
+	AsciiWriter(OutputStream out)
+	{
+		this(out, 1 << 16);
+	}
+
+	AsciiWriter(OutputStream out, int bufferSize)
+	{
+		this.out = out;
+		this.buffer = new byte[bufferSize];
+	}
+
+	AsciiWriter write(char c) throws IOException
+	{
+		if (position == buffer.length)
+		{
+			flushBuffer();
+		}
+		buffer[position++] = (byte) c;
+		return this;
+	}
+
+	AsciiWriter write(String s) throws IOException
+	{
+		for (int i = 0; i < s.length(); ++i)
+		{
+			write(s.charAt(i));
+		}
+		return this;
+	}
+
+	AsciiWriter write(int value) throws IOException
+	{
+		if (value == Integer.MIN_VALUE)
+		{
+			return write(Integer.toString(value));
+		}
+
+		// at most a sign and 10 digits
+		if (buffer.length - position < 11)
+		{
+			flushBuffer();
+		}
+
+		if (value < 0)
+		{
+			buffer[position++] = '-';
+			value = -value;
+		}
+
+		int start = position;
+		do
+		{
+			buffer[position++] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		while (value != 0);
+
+		// digits were written least significant first
+		for (int i = start, j = position - 1; i < j; ++i, --j)
+		{
+			byte b = buffer[i];
+			buffer[i] = buffer[j];
+			buffer[j] = b;
+		}
+		return this;
+	}
+
+	AsciiWriter write(float value) throws IOException
+	{
+		if (Math.abs(value) < 1e6f && value == (int) value)
+		{
+			return write((int) value).write(".0");
+		}
+		return write(Float.toString(value));
+	}
+
+	AsciiWriter write(double value) throws IOException
+	{
+		return write(Double.toString(value));
+	}
+
+	AsciiWriter newLine() throws IOException
+	{
+		return write('\n');
+	}
+
+	private void flushBuffer() throws IOException
+	{
+		out.write(buffer, 0, position);
+		position = 0;
+	}
+
+	void flush() throws IOException
+	{
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			flushBuffer();
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports every model in a cache to obj files, in parallel.
+ * <p>
+ * Materials are shared by all of the exported models and written once to a
+ * single mtl file. Optionally the meshes are also written to a single
+ * {@link MeshContainer}.
+ */
+public class BulkModelExporter
+{
+	private static final Logger logger = LoggerFactory.getLogger(BulkModelExporter.class);
+
+	public static final String MATERIAL_FILE = "materials.mtl";
+	public static final String CONTAINER_FILE = "models.mesh";
+
+	private final Store store;
+	private final TextureManager textureManager;
+	private final int threads;
+
+	public BulkModelExporter(Store store, TextureManager textureManager, int threads)
+	{
+		this.store = store;
+		this.textureManager = textureManager;
+		this.threads = threads;
+	}
+
+	/**
+	 * Exports every model.
+	 *
+	 * @param outDir directory to write the obj files, materials and container to
+	 * @param container whether to also write a mesh container
+	 * @return the number of models exported
+	 * @throws IOException if a model can't be read or the output can't be written
+	 */
+	public int export(File outDir, boolean container) throws IOException
+	{
+		outDir.mkdirs();
+
+		Index index = store.getIndex(IndexType.MODELS);
+		List<Archive> archives = new ArrayList<>(index.getArchives());
+		archives.sort(Comparator.comparing(Archive::getArchiveId));
+
+		Storage storage = store.getStorage();
+		ModelLoader loader = new ModelLoader();
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("model-export-%d")
+			.setDaemon(true)
+			.build());
+
+		// materials in the order they were first seen, so the container is the same on every export
+		Map<MeshMaterial, Integer> materials = new LinkedHashMap<>();
+		long start = System.currentTimeMillis();
+		int count = 0;
+
+		try (MeshContainerWriter containerWriter = container ? new MeshContainerWriter(new File(outDir, CONTAINER_FILE)) : null)
+		{
+			// models are exported in parallel, but collected in order
+			int window = threads * 16;
+			Deque<Future<ExportedModel>> pending = new ArrayDeque<>(window);
+
+			for (Archive archive : archives)
+			{
+				pending.add(executor.submit(() ->
+				{
+					byte[] data;
+					// storages aren't required to support concurrent reads
+					synchronized (storage)
+					{
+						data = storage.loadArchive(archive);
+					}
+
+					byte[] contents = archive.decompress(data);
+					if (contents == null)
+					{
+						return null;
+					}
+
+					PackedModel model = loader.loadPacked(archive.getArchiveId(), contents);
+					return exportModel(model, outDir);
+				}));
+
+				if (pending.size() >= window)
+				{
+					count += collect(pending.poll(), materials, containerWriter);
+				}
+			}
+
+			while (!pending.isEmpty())
+			{
+				count += collect(pending.poll(), materials, containerWriter);
+			}
+
+			if (containerWriter != null)
+			{
+				containerWriter.finish(new ArrayList<>(materials.keySet()));
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		writeMaterials(new File(outDir, MATERIAL_FILE), materials.keySet());
+
+		logger.info("Exported {} models with {} materials to {} in {} ms", count, materials.size(), outDir,
+			System.currentTimeMillis() - start);
+		return count;
+	}
+
+	private static int collect(Future<ExportedModel> future, Map<MeshMaterial, Integer> materials,
+		MeshContainerWriter containerWriter) throws IOException
+	{
+		ExportedModel exported;
+		try
+		{
+			exported = future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while exporting models", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+
+		if (exported == null)
+		{
+			return 0;
+		}
+
+		// map the materials of the model to the materials of the whole export
+		int[] ids = new int[exported.materials.size()];
+		for (int i = 0; i < ids.length; ++i)
+		{
+			ids[i] = materials.computeIfAbsent(exported.materials.get(i), k -> materials.size());
+		}
+
+		if (containerWriter != null)
+		{
+			int[] faceMaterials = new int[exported.faceMaterials.length];
+			for (int i = 0; i < faceMaterials.length; ++i)
+			{
+				faceMaterials[i] = ids[exported.faceMaterials[i]];
+			}
+			containerWriter.write(exported.model.getId(), exported.model, faceMaterials);
+		}
+		return 1;
+	}
+
+	private static ExportedModel exportModel(PackedModel model, File outDir) throws IOException
+	{
+		int faceCount = model.getFaceCount();
+		Map<MeshMaterial, Integer> materialIds = new HashMap<>();
+		List<MeshMaterial> materials = new ArrayList<>();
+		int[] faceMaterials = new int[faceCount];
+		boolean textured = false;
+
+		for (int i = 0; i < faceCount; ++i)
+		{
+			MeshMaterial material = MeshMaterial.of(model, i);
+			Integer id = materialIds.get(material);
+			if (id == null)
+			{
+				id = materials.size();
+				materialIds.put(material, id);
+				materials.add(material);
+			}
+			faceMaterials[i] = id;
+			textured |= material.getTexture() != -1;
+		}
+
+		try (AsciiWriter writer = new AsciiWriter(new FileOutputStream(new File(outDir, model.getId() + ".obj"))))
+		{
+			writeObj(writer, model, materials, faceMaterials, textured);
+		}
+
+		return new ExportedModel(model, materials, faceMaterials);
+	}
+
+	private static void writeObj(AsciiWriter writer, PackedModel model, List<MeshMaterial> materials,
+		int[] faceMaterials, boolean textured) throws IOException
+	{
+		writer.write("mtllib ").write(MATERIAL_FILE).newLine();
+		writer.write("o model").write(model.getId()).newLine();
+
+		for (int i = 0; i < model.getVertexCount(); ++i)
+		{
+			writer.write("v ").write(model.getVertexX(i))
+				.write(' ').write(-model.getVertexY(i))
+				.write(' ').write(-model.getVertexZ(i))
+				.newLine();
+		}
+
+		int[] normals = model.getVertexNormals();
+		for (int i = 0; i < model.getVertexCount(); ++i)
+		{
+			int off = i * PackedModel.VERTEX_NORMAL_STRIDE;
+			writer.write("vn ").write(normals[off])
+				.write(' ').write(normals[off + 1])
+				.write(' ').write(normals[off + 2])
+				.newLine();
+		}
+
+		float[][] u = null;
+		float[][] v = null;
+		if (textured)
+		{
+			ModelDefinition def = model.unpack();
+			def.computeTextureUVCoordinates();
+			u = def.faceTextureUCoordinates;
+			v = def.faceTextureVCoordinates;
+		}
+
+		int textureCoordinate = 1;
+		int material = -1;
+		for (int i = 0; i < model.getFaceCount(); ++i)
+		{
+			if (faceMaterials[i] != material)
+			{
+				material = faceMaterials[i];
+				writer.write("usemtl ").write(materials.get(material).getName()).newLine();
+			}
+
+			int a = model.getFaceVertexA(i) + 1;
+			int b = model.getFaceVertexB(i) + 1;
+			int c = model.getFaceVertexC(i) + 1;
+
+			if (u != null && u[i] != null && model.getFaceTexture(i) != -1)
+			{
+				for (int j = 0; j < 3; ++j)
+				{
+					writer.write("vt ").write(u[i][j]).write(' ').write(v[i][j]).newLine();
+				}
+
+				writer.write("f ");
+				writeVertex(writer, a, textureCoordinate++).write(' ');
+				writeVertex(writer, b, textureCoordinate++).write(' ');
+				writeVertex(writer, c, textureCoordinate++).newLine();
+			}
+			else
+			{
+				writer.write("f ")
+					.write(a).write("//").write(a).write(' ')
+					.write(b).write("//").write(b).write(' ')
+					.write(c).write("//").write(c)
+					.newLine();
+			}
+		}
+	}
+
+	private static AsciiWriter writeVertex(AsciiWriter writer, int vertex, int textureCoordinate) throws IOException
+	{
+		return writer.write(vertex).write('/').write(textureCoordinate).write('/').write(vertex);
+	}
+
+	private void writeMaterials(File file, Iterable<MeshMaterial> materials) throws IOException
+	{
+		try (AsciiWriter writer = new AsciiWriter(new FileOutputStream(file)))
+		{
+			for (MeshMaterial material : materials)
+			{
+				writer.write("newmtl ").write(material.getName()).newLine();
+
+				TextureDefinition texture = material.getTexture() != -1 && textureManager != null
+					? textureManager.findTexture(material.getTexture())
+					: null;
+				if (texture != null)
+				{
+					writer.write("map_Kd sprite/").write(texture.getFileIds()[0]).write("-0.png").newLine();
+				}
+				else
+				{
+					int rgb = material.getRgb();
+					writer.write("Kd ").write(((rgb >> 16) & 0xFF) / 255.0)
+						.write(' ').write(((rgb >> 8) & 0xFF) / 255.0)
+						.write(' ').write((rgb & 0xFF) / 255.0)
+						.newLine();
+				}
+
+				if (material.getAlpha() != 0)
+				{
+					writer.write("d ").write(material.getAlpha() / 255.0).newLine();
+				}
+
+				writer.newLine();
+			}
+		}
+	}
+
+	private static class ExportedModel
+	{
+		private final PackedModel model;
+		private final List<MeshMaterial> materials;
+		private final int[] faceMaterials;
+
+		private ExportedModel(PackedModel model, List<MeshMaterial> materials, int[] faceMaterials)
+		{
+			this.model = model;
+			this.materials = materials;
+			this.faceMaterials = faceMaterials;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import lombok.Value;
+
+/**
+ * A memory mapped container of model meshes, as written by {@link BulkModelExporter}.
+ * <p>
+ * The container is big endian and laid out as
+ * <ul>
+ * <li>a header: magic, version, model count, material count, index offset (long)
+ * and material offset (long)</li>
+ * <li>the meshes: x, y and z of each vertex, vertex a, b and c of each face, then
+ * the material of each face, all as ints</li>
+ * <li>the index, sorted by model id: model id, vertex count, face count and the
+ * offset of the mesh (long)</li>
+ * <li>the materials: texture, hsl color, rgb color and alpha</li>
+ * </ul>
+ */
+public class MeshContainer
+{
+	static final int MAGIC = 0x524c4d53; // RLMS
+	static final int VERSION = 1;
+
+	static final int HEADER_SIZE = 32;
+	static final int INDEX_ENTRY_SIZE = 20;
+	static final int MATERIAL_SIZE = 16;
+
+	@Value
+	public static class Mesh
+	{
+		private final int id;
+		private final int[] vertices;
+		private final int[] faces;
+		private final int[] faceMaterials;
+	}
+
+	private final ByteBuffer buffer;
+	private final int modelCount;
+	private final int materialCount;
+	private final int indexOffset;
+	private final int materialOffset;
+	private final int[] modelIds;
+
+	private MeshContainer(ByteBuffer buffer) throws IOException
+	{
+		this.buffer = buffer;
+
+		if (buffer.getInt(0) != MAGIC)
+		{
+			throw new IOException("not a mesh container");
+		}
+
+		int version = buffer.getInt(4);
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported mesh container version " + version);
+		}
+
+		modelCount = buffer.getInt(8);
+		materialCount = buffer.getInt(12);
+		indexOffset = (int) buffer.getLong(16);
+		materialOffset = (int) buffer.getLong(24);
+
+		modelIds = new int[modelCount];
+		for (int i = 0; i < modelCount; ++i)
+		{
+			modelIds[i] = buffer.getInt(indexOffset + i * INDEX_ENTRY_SIZE);
+		}
+	}
+
+	public static MeshContainer open(File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			if (channel.size() > Integer.MAX_VALUE)
+			{
+				throw new IOException("mesh container is too large to map: " + file);
+			}
+
+			return new MeshContainer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public int getModelCount()
+	{
+		return modelCount;
+	}
+
+	public int getMaterialCount()
+	{
+		return materialCount;
+	}
+
+	/**
+	 * @return the ids of every model in the container, in ascending order
+	 */
+	public int[] getModelIds()
+	{
+		return modelIds.clone();
+	}
+
+	/**
+	 * @return the mesh of a model, or null if the container does not have it
+	 */
+	public Mesh getMesh(int modelId)
+	{
+		int idx = Arrays.binarySearch(modelIds, modelId);
+		if (idx < 0)
+		{
+			return null;
+		}
+
+		int entry = indexOffset + idx * INDEX_ENTRY_SIZE;
+		int vertexCount = buffer.getInt(entry + 4);
+		int faceCount = buffer.getInt(entry + 8);
+		int offset = (int) buffer.getLong(entry + 12);
+
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(offset);
+		IntBuffer ints = slice.slice().asIntBuffer();
+
+		int[] vertices = new int[vertexCount * 3];
+		int[] faces = new int[faceCount * 3];
+		int[] faceMaterials = new int[faceCount];
+		ints.get(vertices).get(faces).get(faceMaterials);
+
+		return new Mesh(modelId, vertices, faces, faceMaterials);
+	}
+
+	public MeshMaterial getMaterial(int material)
+	{
+		int offset = materialOffset + material * MATERIAL_SIZE;
+		return new MeshMaterial(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 12));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Writes a {@link MeshContainer}. Meshes must be written in ascending model id order.
+ */
+class MeshContainerWriter implements Closeable
+{
+	private final FileOutputStream file;
+	private final DataOutputStream out;
+	private final DataOutputStream index;
+	private final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+	private long offset = MeshContainer.HEADER_SIZE;
+	private int modelCount;
+	private int lastId = -1;
+
+	MeshContainerWriter(File file) throws IOException
+	{
+		this.file = new FileOutputStream(file);
+		this.out = new DataOutputStream(new BufferedOutputStream(this.file, 1 << 16));
+		this.index = new DataOutputStream(indexBytes);
+
+		// the header is filled in once everything else has been written
+		out.write(new byte[MeshContainer.HEADER_SIZE]);
+	}
+
+	void write(int modelId, PackedModel model, int[] faceMaterials) throws IOException
+	{
+		if (modelId <= lastId)
+		{
+			throw new IllegalArgumentException("meshes must be written in ascending id order");
+		}
+		lastId = modelId;
+
+		index.writeInt(modelId);
+		index.writeInt(model.getVertexCount());
+		index.writeInt(model.getFaceCount());
+		index.writeLong(offset);
+
+		for (int i = 0; i < model.getVertexCount(); ++i)
+		{
+			out.writeInt(model.getVertexX(i));
+			out.writeInt(model.getVertexY(i));
+			out.writeInt(model.getVertexZ(i));
+		}
+
+		for (int i = 0; i < model.getFaceCount(); ++i)
+		{
+			out.writeInt(model.getFaceVertexA(i));
+			out.writeInt(model.getFaceVertexB(i));
+			out.writeInt(model.getFaceVertexC(i));
+		}
+
+		for (int i = 0; i < model.getFaceCount(); ++i)
+		{
+			out.writeInt(faceMaterials[i]);
+		}
+
+		offset += 4L * (model.getVertexCount() * 3 + model.getFaceCount() * 4);
+		++modelCount;
+	}
+
+	/**
+	 * Writes the index, materials and header
+	 *
+	 * @param materials every material referenced by the written meshes
+	 */
+	void finish(List<MeshMaterial> materials) throws IOException
+	{
+		long indexOffset = offset;
+		indexBytes.writeTo(out);
+
+		long materialOffset = indexOffset + indexBytes.size();
+		for (MeshMaterial material : materials)
+		{
+			out.writeInt(material.getTexture());
+			out.writeInt(material.getColor());
+			out.writeInt(material.getRgb());
+			out.writeInt(material.getAlpha());
+		}
+		out.flush();
+
+		ByteBuffer header = ByteBuffer.allocate(MeshContainer.HEADER_SIZE);
+		header.putInt(MeshContainer.MAGIC);
+		header.putInt(MeshContainer.VERSION);
+		header.putInt(modelCount);
+		header.putInt(materials.size());
+		header.putLong(indexOffset);
+		header.putLong(materialOffset);
+		header.flip();
+
+		file.getChannel().write(header, 0);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		out.close();
+	}
+}
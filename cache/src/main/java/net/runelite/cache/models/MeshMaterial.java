@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import lombok.Value;
+
+/**
+ * The material of a model face. Faces with the same texture, or the same color
+ * if untextured, and the same alpha share a material.
+ */
+@Value
+public class MeshMaterial
+{
+	/**
+	 * texture id, or -1 if the face is colored
+	 */
+	private final int texture;
+	/**
+	 * face color as a 16 bit hsl value, 0 for textured faces
+	 */
+	private final int color;
+	private final int alpha;
+
+	static MeshMaterial of(PackedModel model, int face)
+	{
+		int texture = model.getFaceTexture(face);
+		int color = texture == -1 ? model.getFaceColor(face) & 0xFFFF : 0;
+		return new MeshMaterial(texture, color, model.getFaceAlpha(face));
+	}
+
+	/**
+	 * @return a name for the material, unique across all materials
+	 */
+	public String getName()
+	{
+		String name = texture != -1 ? "t" + texture : "c" + color;
+		return alpha != 0 ? name + "a" + alpha : name;
+	}
+
+	/**
+	 * @return the face color as rgb, or white for textured faces
+	 */
+	public int getRgb()
+	{
+		return texture != -1 ? 0xFFFFFF : ObjExporter.rs2hsbToColor(color).getRGB() & 0xFFFFFF;
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import lombok.Getter;
+import net.runelite.cache.definitions.ModelDefinition;
+
+/**
+ * A compact, read only model.
+ * <p>
+ * Each attribute is held in a single array with the components of a vertex,
+ * face or texture triangle stored next to each other, rather than one array per
+ * component. Vertex and face normals are kept as primitive arrays which are only
+ * computed the first time they are requested.
+ * <p>
+ * The texture mapping parameters of non planar texture triangles are not kept,
+ * nothing outside of {@link net.runelite.cache.definitions.loaders.ModelLoader}
+ * reads them.
+ */
+public class PackedModel
+{
+	/**
+	 * Number of components stored per vertex normal, x, y, z and magnitude
+	 */
+	public static final int VERTEX_NORMAL_STRIDE = 4;
+
+	private static final int ARRAY_HEADER = 16;
+	private static final int OBJECT_HEADER = 16;
+	private static final int REFERENCE = 4;
+
+	@Getter
+	private final int id;
+
+	@Getter
+	private final int vertexCount;
+
+	@Getter
+	private final int faceCount;
+
+	@Getter
+	private final int textureTriangleCount;
+
+	@Getter
+	private final byte priority;
+
+	// x, y, z per vertex
+	private final int[] vertices;
+	// vertex a, b, c per face
+	private final int[] faces;
+	// vertex a, b, c per texture triangle
+	private final short[] textureTriangles;
+
+	private final short[] faceColors;
+	private final byte[] faceAlphas;
+	private final byte[] faceRenderPriorities;
+	private final byte[] faceRenderTypes;
+	private final short[] faceTextures;
+	private final byte[] textureCoordinates;
+	private final short[] texturePrimaryColors;
+	private final byte[] textureRenderTypes;
+	private final int[] vertexSkins;
+	private final int[] faceSkins;
+
+	private volatile int[] vertexNormals;
+	private volatile int[] faceNormals;
+
+	private PackedModel(ModelDefinition def)
+	{
+		id = def.id;
+		vertexCount = def.vertexCount;
+		faceCount = def.faceCount;
+		textureTriangleCount = def.textureTriangleCount;
+		priority = def.priority;
+
+		vertices = new int[vertexCount * 3];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			vertices[i * 3] = def.vertexPositionsX[i];
+			vertices[i * 3 + 1] = def.vertexPositionsY[i];
+			vertices[i * 3 + 2] = def.vertexPositionsZ[i];
+		}
+
+		faces = new int[faceCount * 3];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			faces[i * 3] = def.faceVertexIndices1[i];
+			faces[i * 3 + 1] = def.faceVertexIndices2[i];
+			faces[i * 3 + 2] = def.faceVertexIndices3[i];
+		}
+
+		if (textureTriangleCount > 0)
+		{
+			textureTriangles = new short[textureTriangleCount * 3];
+			for (int i = 0; i < textureTriangleCount; ++i)
+			{
+				textureTriangles[i * 3] = def.textureTriangleVertexIndices1[i];
+				textureTriangles[i * 3 + 1] = def.textureTriangleVertexIndices2[i];
+				textureTriangles[i * 3 + 2] = def.textureTriangleVertexIndices3[i];
+			}
+		}
+		else
+		{
+			textureTriangles = null;
+		}
+
+		faceColors = def.faceColors;
+		faceAlphas = def.faceAlphas;
+		faceRenderPriorities = def.faceRenderPriorities;
+		faceRenderTypes = def.faceRenderTypes;
+		faceTextures = def.faceTextures;
+		textureCoordinates = def.textureCoordinates;
+		texturePrimaryColors = def.texturePrimaryColors;
+		textureRenderTypes = def.textureRenderTypes;
+		vertexSkins = def.vertexSkins;
+		faceSkins = def.faceSkins;
+	}
+
+	/**
+	 * Packs a model definition. Arrays which are already a single buffer per
+	 * attribute are shared with the definition, which should not be modified
+	 * afterwards.
+	 */
+	public static PackedModel pack(ModelDefinition def)
+	{
+		return new PackedModel(def);
+	}
+
+	/**
+	 * Creates a model definition from this model. The returned definition owns
+	 * all of its arrays and may be freely modified. Normals, texture coordinates
+	 * and animation tables are not computed.
+	 */
+	public ModelDefinition unpack()
+	{
+		ModelDefinition def = new ModelDefinition();
+		def.id = id;
+
+		def.vertexCount = vertexCount;
+		def.vertexPositionsX = new int[vertexCount];
+		def.vertexPositionsY = new int[vertexCount];
+		def.vertexPositionsZ = new int[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			def.vertexPositionsX[i] = vertices[i * 3];
+			def.vertexPositionsY[i] = vertices[i * 3 + 1];
+			def.vertexPositionsZ[i] = vertices[i * 3 + 2];
+		}
+
+		def.faceCount = faceCount;
+		def.faceVertexIndices1 = new int[faceCount];
+		def.faceVertexIndices2 = new int[faceCount];
+		def.faceVertexIndices3 = new int[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			def.faceVertexIndices1[i] = faces[i * 3];
+			def.faceVertexIndices2[i] = faces[i * 3 + 1];
+			def.faceVertexIndices3[i] = faces[i * 3 + 2];
+		}
+
+		def.textureTriangleCount = textureTriangleCount;
+		if (textureTriangles != null)
+		{
+			def.textureTriangleVertexIndices1 = new short[textureTriangleCount];
+			def.textureTriangleVertexIndices2 = new short[textureTriangleCount];
+			def.textureTriangleVertexIndices3 = new short[textureTriangleCount];
+			for (int i = 0; i < textureTriangleCount; ++i)
+			{
+				def.textureTriangleVertexIndices1[i] = textureTriangles[i * 3];
+				def.textureTriangleVertexIndices2[i] = textureTriangles[i * 3 + 1];
+				def.textureTriangleVertexIndices3[i] = textureTriangles[i * 3 + 2];
+			}
+		}
+
+		def.faceColors = clone(faceColors);
+		def.faceAlphas = clone(faceAlphas);
+		def.faceRenderPriorities = clone(faceRenderPriorities);
+		def.faceRenderTypes = clone(faceRenderTypes);
+		def.faceTextures = clone(faceTextures);
+		def.textureCoordinates = clone(textureCoordinates);
+		def.texturePrimaryColors = clone(texturePrimaryColors);
+		def.textureRenderTypes = clone(textureRenderTypes);
+		def.vertexSkins = vertexSkins == null ? null : vertexSkins.clone();
+		def.faceSkins = faceSkins == null ? null : faceSkins.clone();
+		def.priority = priority;
+		return def;
+	}
+
+	public int getVertexX(int vertex)
+	{
+		return vertices[vertex * 3];
+	}
+
+	public int getVertexY(int vertex)
+	{
+		return vertices[vertex * 3 + 1];
+	}
+
+	public int getVertexZ(int vertex)
+	{
+		return vertices[vertex * 3 + 2];
+	}
+
+	public int getFaceVertexA(int face)
+	{
+		return faces[face * 3];
+	}
+
+	public int getFaceVertexB(int face)
+	{
+		return faces[face * 3 + 1];
+	}
+
+	public int getFaceVertexC(int face)
+	{
+		return faces[face * 3 + 2];
+	}
+
+	public int getTextureTriangleVertex(int textureTriangle, int corner)
+	{
+		return textureTriangles[textureTriangle * 3 + corner];
+	}
+
+	public short getFaceColor(int face)
+	{
+		return faceColors[face];
+	}
+
+	public int getFaceAlpha(int face)
+	{
+		return faceAlphas == null ? 0 : faceAlphas[face] & 0xFF;
+	}
+
+	public int getFaceRenderPriority(int face)
+	{
+		return faceRenderPriorities == null ? priority : faceRenderPriorities[face];
+	}
+
+	public int getFaceRenderType(int face)
+	{
+		return faceRenderTypes == null ? 0 : faceRenderTypes[face];
+	}
+
+	/**
+	 * @return the texture id of the face, or -1 if it is untextured
+	 */
+	public int getFaceTexture(int face)
+	{
+		return faceTextures == null ? -1 : faceTextures[face];
+	}
+
+	/**
+	 * @return the texture triangle the face is mapped with, or -1 if the
+	 * face vertices are used
+	 */
+	public int getTextureCoordinate(int face)
+	{
+		return textureCoordinates == null ? -1 : textureCoordinates[face];
+	}
+
+	public int getVertexSkin(int vertex)
+	{
+		return vertexSkins == null ? -1 : vertexSkins[vertex];
+	}
+
+	public int getFaceSkin(int face)
+	{
+		return faceSkins == null ? -1 : faceSkins[face];
+	}
+
+	/**
+	 * Vertex normals, {@link #VERTEX_NORMAL_STRIDE} components per vertex:
+	 * the summed x, y and z of the normals of every smooth shaded face using
+	 * the vertex, followed by the number of those faces.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 */
+	public int[] getVertexNormals()
+	{
+		int[] normals = vertexNormals;
+		if (normals == null)
+		{
+			computeNormals();
+			normals = vertexNormals;
+		}
+		return normals;
+	}
+
+	/**
+	 * Face normals, x, y and z per face. Only flat shaded faces have a
+	 * normal, and if the model has no flat shaded faces this is null.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 */
+	public int[] getFaceNormals()
+	{
+		if (vertexNormals == null)
+		{
+			computeNormals();
+		}
+		return faceNormals;
+	}
+
+	/**
+	 * Same as {@link ModelDefinition#computeNormals()}, writing into
+	 * primitive arrays instead of normal objects
+	 */
+	private synchronized void computeNormals()
+	{
+		if (vertexNormals != null)
+		{
+			return;
+		}
+
+		int[] vertexNormals = new int[vertexCount * VERTEX_NORMAL_STRIDE];
+		int[] faceNormals = null;
+
+		for (int face = 0; face < faceCount; ++face)
+		{
+			int vertexA = faces[face * 3];
+			int vertexB = faces[face * 3 + 1];
+			int vertexC = faces[face * 3 + 2];
+
+			int xA = vertices[vertexB * 3] - vertices[vertexA * 3];
+			int yA = vertices[vertexB * 3 + 1] - vertices[vertexA * 3 + 1];
+			int zA = vertices[vertexB * 3 + 2] - vertices[vertexA * 3 + 2];
+
+			int xB = vertices[vertexC * 3] - vertices[vertexA * 3];
+			int yB = vertices[vertexC * 3 + 1] - vertices[vertexA * 3 + 1];
+			int zB = vertices[vertexC * 3 + 2] - vertices[vertexA * 3 + 2];
+
+			// Compute cross product
+			int x = yA * zB - yB * zA;
+			int y = zA * xB - zB * xA;
+			int z = xA * yB - xB * yA;
+
+			while (x > 8192 || y > 8192 || z > 8192 || x < -8192 || y < -8192 || z < -8192)
+			{
+				x >>= 1;
+				y >>= 1;
+				z >>= 1;
+			}
+
+			int length = (int) Math.sqrt((double) (x * x + y * y + z * z));
+			if (length <= 0)
+			{
+				length = 1;
+			}
+
+			x = x * 256 / length;
+			y = y * 256 / length;
+			z = z * 256 / length;
+
+			int renderType = faceRenderTypes == null ? 0 : faceRenderTypes[face];
+			if (renderType == 0)
+			{
+				addVertexNormal(vertexNormals, vertexA, x, y, z);
+				addVertexNormal(vertexNormals, vertexB, x, y, z);
+				addVertexNormal(vertexNormals, vertexC, x, y, z);
+			}
+			else if (renderType == 1)
+			{
+				if (faceNormals == null)
+				{
+					faceNormals = new int[faceCount * 3];
+				}
+
+				faceNormals[face * 3] = x;
+				faceNormals[face * 3 + 1] = y;
+				faceNormals[face * 3 + 2] = z;
+			}
+		}
+
+		// faceNormals must be visible before vertexNormals, which marks the normals as computed
+		this.faceNormals = faceNormals;
+		this.vertexNormals = vertexNormals;
+	}
+
+	private static void addVertexNormal(int[] normals, int vertex, int x, int y, int z)
+	{
+		int off = vertex * VERTEX_NORMAL_STRIDE;
+		normals[off] += x;
+		normals[off + 1] += y;
+		normals[off + 2] += z;
+		++normals[off + 3];
+	}
+
+	/**
+	 * Estimates the number of bytes of heap used by this model, including
+	 * normals if they have been computed
+	 */
+	public long getEstimatedSize()
+	{
+		return OBJECT_HEADER + 19 * REFERENCE
+			+ size(vertices) + size(faces) + size(textureTriangles)
+			+ size(faceColors) + size(faceAlphas) + size(faceRenderPriorities) + size(faceRenderTypes)
+			+ size(faceTextures) + size(textureCoordinates) + size(texturePrimaryColors) + size(textureRenderTypes)
+			+ size(vertexSkins) + size(faceSkins)
+			+ size(vertexNormals) + size(faceNormals);
+	}
+
+	private static long size(int[] array)
+	{
+		return array == null ? 0 : ARRAY_HEADER + 4L * array.length;
+	}
+
+	private static long size(short[] array)
+	{
+		return array == null ? 0 : ARRAY_HEADER + 2L * array.length;
+	}
+
+	private static long size(byte[] array)
+	{
+		return array == null ? 0 : ARRAY_HEADER + array.length;
+	}
+
+	private static short[] clone(short[] array)
+	{
+		return array == null ? null : array.clone();
+	}
+
+	private static byte[] clone(byte[] array)
+	{
+		return array == null ? null : array.clone();
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * A thread safe cache of packed models, keyed by model id and bounded by the
+ * estimated heap size of the models it holds.
+ * <p>
+ * As a {@link ModelProvider} every call returns a newly unpacked definition,
+ * which callers are free to modify.
+ */
+public class PackedModelCache implements ModelProvider
+{
+	private interface Loader
+	{
+		PackedModel load(int modelId) throws IOException;
+	}
+
+	private final Loader loader;
+	private final Cache<Integer, PackedModel> models;
+
+	/**
+	 * Creates a cache which loads models from a store, decoding them straight to their packed form
+	 */
+	public PackedModelCache(Store store, long maximumBytes)
+	{
+		this(maximumBytes, new StoreLoader(store));
+	}
+
+	/**
+	 * Creates a cache which packs the models of another provider
+	 */
+	public PackedModelCache(ModelProvider modelProvider, long maximumBytes)
+	{
+		this(maximumBytes, modelId ->
+		{
+			ModelDefinition model = modelProvider.provide(modelId);
+			return model == null ? null : PackedModel.pack(model);
+		});
+	}
+
+	private PackedModelCache(long maximumBytes, Loader loader)
+	{
+		this.loader = loader;
+		this.models = CacheBuilder.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((Integer id, PackedModel model) -> (int) Math.min(model.getEstimatedSize(), Integer.MAX_VALUE))
+			.build();
+	}
+
+	/**
+	 * Gets a model, loading it if it is not cached
+	 *
+	 * @return the model, or null if there is no model with that id
+	 */
+	public PackedModel getModel(int modelId) throws IOException
+	{
+		PackedModel model = models.getIfPresent(modelId);
+		if (model != null)
+		{
+			return model;
+		}
+
+		model = loader.load(modelId);
+		if (model == null)
+		{
+			return null;
+		}
+
+		PackedModel existing = models.asMap().putIfAbsent(modelId, model);
+		return existing != null ? existing : model;
+	}
+
+	@Override
+	public ModelDefinition provide(int modelId) throws IOException
+	{
+		PackedModel model = getModel(modelId);
+		return model == null ? null : model.unpack();
+	}
+
+	public long size()
+	{
+		return models.size();
+	}
+
+	public void invalidateAll()
+	{
+		models.invalidateAll();
+	}
+
+	private static class StoreLoader implements Loader
+	{
+		private final Store store;
+		private final ModelLoader modelLoader = new ModelLoader();
+
+		private StoreLoader(Store store)
+		{
+			this.store = store;
+		}
+
+		@Override
+		public PackedModel load(int modelId) throws IOException
+		{
+			Index index = store.getIndex(IndexType.MODELS);
+			Archive archive = index.getArchive(modelId);
+			if (archive == null)
+			{
+				return null;
+			}
+
+			byte[] data;
+			Storage storage = store.getStorage();
+			synchronized (storage)
+			{
+				data = storage.loadArchive(archive);
+			}
+
+			return modelLoader.loadPacked(modelId, archive.decompress(data));
+		}
+	}
+}
@@ -24,6 +24,8 @@
  */
 package net.runelite.cache.script;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import static net.runelite.cache.script.Opcodes.*;
@@ -578,4 +580,9 @@ public class Instructions
 	{
 		return instructionsByName.get(name);
 	}
+
+	public Collection<Instruction> getInstructions()
+	{
+		return Collections.unmodifiableCollection(instructions.values());
+	}
 }
@@ -97,4 +97,27 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				File planeDir = new File(outDir, Integer.toString(i));
+				dumper.drawTiles(i, 6, planeDir, Runtime.getRuntime().availableProcessors());
+				logger.info("Wrote tiles to {}", planeDir);
+			}
+		}
+	}
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.DefinitionType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.savers.ItemSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Crc32;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StreamingExporterTest
+{
+	private static final int ITEMS = 5000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Store store;
+
+	@Before
+	public void before() throws IOException
+	{
+		store = new Store(new FlatStorage(folder.newFolder()));
+
+		Archive archive = store.addIndex(IndexType.CONFIGS.getNumber()).addArchive(ConfigType.ITEM.getId());
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[ITEMS];
+		// add the items out of order, they should be exported in id order
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			int id = ITEMS - 1 - i;
+			ItemDefinition item = new ItemDefinition(id);
+			item.name = "Item " + id;
+			item.cost = id * 2;
+			item.interfaceOptions = new String[]{null, "Wield", null, null, "Drop"};
+
+			FSFile file = new FSFile(id);
+			file.setContents(new ItemSaver().save(item));
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(id);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(files.saveContents(), null);
+		store.getStorage().saveArchive(archive, container.data);
+
+		Crc32 crc = new Crc32();
+		crc.update(container.data, 0, container.data.length);
+		archive.setCrc(crc.getHash());
+	}
+
+	@Test
+	public void testJsonLines() throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int count = new StreamingExporter(store, 2).export(DefinitionType.ITEM, StreamingExporter.Format.JSON_LINES, out);
+		assertEquals(ITEMS, count);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+			new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())), StandardCharsets.UTF_8)))
+		{
+			JsonParser parser = new JsonParser();
+			for (int id = 0; id < ITEMS; ++id)
+			{
+				JsonObject item = parser.parse(reader.readLine()).getAsJsonObject();
+				assertEquals(id, item.get("id").getAsInt());
+				assertEquals("Item " + id, item.get("name").getAsString());
+			}
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	public void testColumnar() throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int count = new StreamingExporter(store, 2).export(DefinitionType.ITEM, StreamingExporter.Format.COLUMNAR, out);
+		assertEquals(ITEMS, count);
+
+		try (ColumnarDefinitionReader reader = new ColumnarDefinitionReader(new ByteArrayInputStream(out.toByteArray())))
+		{
+			assertEquals("ItemDefinition", reader.getType());
+			assertTrue(reader.getColumns().contains("name"));
+
+			int id = 0;
+			for (List<Map<String, Object>> rows = reader.readRows(); rows != null; rows = reader.readRows())
+			{
+				for (Map<String, Object> row : rows)
+				{
+					assertEquals(id, row.get("id"));
+					assertEquals("Item " + id, row.get("name"));
+					assertEquals(id * 2, row.get("cost"));
+					assertArrayEquals(new String[]{null, "Wield", null, null, "Drop"}, (String[]) row.get("interfaceOptions"));
+					++id;
+				}
+			}
+			assertEquals(ITEMS, id);
+		}
+	}
+}
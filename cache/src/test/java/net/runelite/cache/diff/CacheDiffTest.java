@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.savers.ItemSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Crc32;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		File fromDir = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(fromDir)))
+		{
+			saveItems(store, 1, item(1, "Bronze axe"), item(2, "Iron axe"));
+			saveArchive(store, addIndex(store, IndexType.MODELS, 1).addArchive(5), new byte[]{1, 2, 3});
+			saveArchive(store, addIndex(store, IndexType.SPRITES, 1).addArchive(0), new byte[]{4, 5, 6});
+			store.save();
+		}
+
+		File toDir = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(toDir)))
+		{
+			saveItems(store, 2, item(1, "Bronze hatchet"), item(3, "Steel axe"));
+			saveArchive(store, addIndex(store, IndexType.MODELS, 2).addArchive(5), new byte[]{1, 2, 4});
+			saveArchive(store, addIndex(store, IndexType.SPRITES, 1).addArchive(0), new byte[]{4, 5, 6});
+			store.save();
+		}
+
+		try (Store from = new Store(new FlatStorage(fromDir));
+			Store to = new Store(new FlatStorage(toDir)))
+		{
+			from.load();
+			to.load();
+
+			CacheDiffReport report = new CacheDiff(from, to).diff(2);
+
+			List<ArchiveChange> archives = report.getArchives();
+			assertEquals(2, archives.size());
+			assertEquals(new ArchiveChange(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId(), ChangeType.CHANGED), archives.get(0));
+			assertEquals(new ArchiveChange(IndexType.MODELS.getNumber(), 5, ChangeType.CHANGED), archives.get(1));
+
+			List<DefinitionChange> definitions = report.getDefinitions();
+			assertEquals(4, definitions.size());
+
+			DefinitionChange item1 = definitions.get(0);
+			assertEquals("item", item1.getType());
+			assertEquals(1, item1.getId());
+			assertEquals(ChangeType.CHANGED, item1.getChange());
+			assertEquals(1, item1.getFields().size());
+			assertEquals("Bronze axe", item1.getFields().get("name").getFrom().getAsString());
+			assertEquals("Bronze hatchet", item1.getFields().get("name").getTo().getAsString());
+
+			assertEquals(new DefinitionChange("item", 2, ChangeType.REMOVED, null), definitions.get(1));
+			assertEquals(new DefinitionChange("item", 3, ChangeType.ADDED, null), definitions.get(2));
+
+			DefinitionChange model = definitions.get(3);
+			assertEquals("model", model.getType());
+			assertEquals(ChangeType.CHANGED, model.getChange());
+			assertNull(model.getFields());
+		}
+	}
+
+	private static ItemDefinition item(int id, String name)
+	{
+		ItemDefinition item = new ItemDefinition(id);
+		item.name = name;
+		return item;
+	}
+
+	private static Index addIndex(Store store, IndexType type, int revision) throws IOException
+	{
+		Index index = store.addIndex(type.getNumber());
+		index.setRevision(revision);
+		return index;
+	}
+
+	private static void saveItems(Store store, int revision, ItemDefinition... items) throws IOException
+	{
+		Archive archive = addIndex(store, IndexType.CONFIGS, revision).addArchive(ConfigType.ITEM.getId());
+
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[items.length];
+		for (int i = 0; i < items.length; ++i)
+		{
+			FSFile file = new FSFile(items[i].id);
+			file.setContents(new ItemSaver().save(items[i]));
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(items[i].id);
+		}
+		archive.setFileData(fileData);
+
+		saveArchive(store, archive, files.saveContents());
+	}
+
+	private static void saveArchive(Store store, Archive archive, byte[] data) throws IOException
+	{
+		if (archive.getFileData() == null)
+		{
+			FileData[] fileData = new FileData[1];
+			fileData[0] = new FileData();
+			archive.setFileData(fileData);
+		}
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data, null);
+		store.getStorage().saveArchive(archive, container.data);
+
+		Crc32 crc = new Crc32();
+		crc.update(container.data, 0, container.data.length);
+		archive.setCrc(crc.getHash());
+	}
+}
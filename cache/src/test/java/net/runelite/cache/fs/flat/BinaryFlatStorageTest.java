@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.StorageConverter;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryFlatStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testConvert() throws Exception
+	{
+		File diskDir = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(diskDir)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 3; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setNameHash(100 + i);
+				archive.setRevision(i);
+
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				fileData[0].setNameHash(200 + i);
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), i);
+				container.compress(("test" + i).getBytes(), null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+			store.save();
+		}
+
+		File binaryDir = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(diskDir)))
+		{
+			store.load();
+			StorageConverter.convert(store, new BinaryFlatStorage(binaryDir));
+		}
+
+		File flatDir = folder.newFolder();
+		try (Store store = new Store(new BinaryFlatStorage(binaryDir)))
+		{
+			store.load();
+			assertStore(store);
+			StorageConverter.convert(store, new FlatStorage(flatDir));
+		}
+
+		try (Store store = new Store(new FlatStorage(flatDir)))
+		{
+			store.load();
+			assertStore(store);
+		}
+	}
+
+	@Test
+	public void testSaveArchive() throws Exception
+	{
+		File dir = folder.newFolder();
+		BinaryFlatStorage storage = new BinaryFlatStorage(dir);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(2);
+			Archive archive = index.addArchive(7);
+			archive.setFileData(new FileData[0]);
+			storage.saveArchive(archive, new byte[]{1, 2, 3});
+			store.save();
+
+			// once saved, the archive is read out of the mapped payload
+			assertArrayEquals(new byte[]{1, 2, 3}, storage.loadArchive(archive));
+
+			Archive added = index.addArchive(8);
+			added.setFileData(new FileData[0]);
+			storage.saveArchive(added, new byte[]{4, 5});
+			assertArrayEquals(new byte[]{4, 5}, storage.loadArchive(added));
+
+			// saving again copies archive 7 out of the mapped payload into a new one
+			store.save();
+		}
+
+		File[] payloads = dir.listFiles((d, name) -> name.endsWith(".flatdat"));
+		assertEquals(1, payloads.length);
+
+		storage = new BinaryFlatStorage(dir);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Index index = store.findIndex(2);
+			assertArrayEquals(new byte[]{1, 2, 3}, storage.loadArchive(index.getArchive(7)));
+			assertArrayEquals(new byte[]{4, 5}, storage.loadArchive(index.getArchive(8)));
+
+			ByteBuffer buffer = storage.loadArchiveBuffer(index.getArchive(8));
+			assertTrue(buffer.isReadOnly());
+			assertEquals(2, buffer.remaining());
+			assertEquals(4, buffer.get(0));
+
+			assertNull(storage.loadArchive(index.addArchive(9)));
+		}
+	}
+
+	private static void assertStore(Store store) throws Exception
+	{
+		Index index = store.findIndex(0);
+		assertEquals(3, index.getArchives().size());
+		for (int i = 0; i < 3; ++i)
+		{
+			Archive archive = index.getArchive(i);
+			assertEquals(100 + i, archive.getNameHash());
+			assertEquals(i, archive.getRevision());
+			assertEquals(200 + i, archive.getFileData()[0].getNameHash());
+
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			assertArrayEquals(("test" + i).getBytes(), data);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class InputStreamTest
+{
+	@Test
+	public void testReadString()
+	{
+		byte[] data = new byte[]{'T', 'a', 'k', 'e', 0, (byte) 0xe9, 0, (byte) 0x80, '5', (byte) 0x81, 0, 0};
+		InputStream is = new InputStream(data);
+
+		assertEquals("Take", is.readString());
+		assertEquals("\u00e9", is.readString());
+		assertEquals("\u20ac5?", is.readString());
+		assertEquals("", is.readString());
+		assertEquals(0, is.remaining());
+	}
+
+	@Test
+	public void testReadInternedString()
+	{
+		InputStream is = new InputStream(new byte[]{'D', 'r', 'o', 'p', 0, 'D', 'r', 'o', 'p', 0});
+		assertSame(is.readInternedString(), is.readInternedString());
+	}
+
+	@Test
+	public void testReadNumbers()
+	{
+		OutputStream os = new OutputStream();
+		os.writeInt(-2);
+		os.writeShort(0xfffe);
+		os.write24BitInt(0x123456);
+		os.writeShortSmart(5);
+		os.writeShortSmart(1000);
+		os.writeBigSmart(70000);
+
+		InputStream is = new InputStream(os.flip());
+		assertEquals(-2, is.readInt());
+		assertEquals(0xfffe, is.readUnsignedShort());
+		assertEquals(0x123456, is.read24BitInt());
+		assertEquals(5, is.readUnsignedShortSmart());
+		assertEquals(1000, is.readUnsignedShortSmart());
+		assertEquals(70000, is.readBigSmart());
+		assertEquals(0, is.remaining());
+	}
+
+	@Test
+	public void testSetBuffer()
+	{
+		InputStream is = new InputStream(new byte[]{1, 2});
+		is.readByte();
+
+		is.setBuffer(new byte[]{3});
+		assertEquals(0, is.getOffset());
+		assertEquals(1, is.getLength());
+		assertEquals(3, is.readUnsignedByte());
+	}
+}
@@ -27,6 +27,8 @@ package net.runelite.cache.item;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
@@ -115,4 +117,55 @@ public class ItemSpriteFactoryTest
 
 		log.info("Dumped {} item images to {}", count, outDir);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Ignore
+	public void testBatch() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			ItemManager itemManager = new ItemManager(store);
+			itemManager.load();
+
+			ModelProvider modelProvider = modelId ->
+			{
+				Index models = store.getIndex(IndexType.MODELS);
+				Archive archive = models.getArchive(modelId);
+
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				return new ModelLoader().load(modelId, data);
+			};
+
+			SpriteManager spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			TextureManager textureManager = new TextureManager(store);
+			textureManager.load();
+
+			List<Integer> itemIds = new ArrayList<>();
+			for (ItemDefinition itemDef : itemManager.getItems())
+			{
+				if (itemDef.name != null && !itemDef.name.equalsIgnoreCase("null"))
+				{
+					itemIds.add(itemDef.id);
+				}
+			}
+
+			ItemSpriteBatchRenderer renderer = new ItemSpriteBatchRenderer(itemManager, modelProvider, spriteManager, textureManager);
+			int threads = Runtime.getRuntime().availableProcessors();
+
+			long start = System.nanoTime();
+			int count = renderer.render(itemIds, 1, 3153952, threads, (itemId, quantity, image) ->
+				ImageIO.write(image, "PNG", new File(outDir, itemId + (quantity > 1 ? "_" + quantity : "") + ".png")));
+			long elapsed = System.nanoTime() - start;
+
+			log.info("Dumped {} item images to {} in {} ms using {} threads ({} images/s)", count, outDir,
+				elapsed / 1_000_000L, threads, count * 1_000_000_000L / Math.max(elapsed, 1L));
+		}
+	}
+}
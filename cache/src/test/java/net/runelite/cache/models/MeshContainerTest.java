@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ModelDefinition;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MeshContainerTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		PackedModel first = PackedModel.pack(createModel(3, 10));
+		PackedModel second = PackedModel.pack(createModel(7, 20));
+
+		MeshMaterial color = new MeshMaterial(-1, 100, 0);
+		MeshMaterial texture = new MeshMaterial(5, 0, 128);
+
+		File file = folder.newFile();
+		try (MeshContainerWriter writer = new MeshContainerWriter(file))
+		{
+			writer.write(3, first, new int[]{0, 0});
+			writer.write(7, second, new int[]{0, 1});
+			writer.finish(Arrays.asList(color, texture));
+		}
+
+		MeshContainer container = MeshContainer.open(file);
+		assertEquals(2, container.getModelCount());
+		assertEquals(2, container.getMaterialCount());
+		assertArrayEquals(new int[]{3, 7}, container.getModelIds());
+
+		MeshContainer.Mesh mesh = container.getMesh(7);
+		assertEquals(7, mesh.getId());
+		assertArrayEquals(new int[]{0, 0, 0, 20, 0, 0, 0, 20, 0, 0, 0, 20}, mesh.getVertices());
+		assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3}, mesh.getFaces());
+		assertArrayEquals(new int[]{0, 1}, mesh.getFaceMaterials());
+
+		assertEquals(3, container.getMesh(3).getId());
+		assertNull(container.getMesh(5));
+
+		assertEquals(color, container.getMaterial(0));
+		assertEquals(texture, container.getMaterial(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOutOfOrder() throws IOException
+	{
+		try (MeshContainerWriter writer = new MeshContainerWriter(folder.newFile()))
+		{
+			writer.write(7, PackedModel.pack(createModel(7, 1)), new int[2]);
+			writer.write(3, PackedModel.pack(createModel(3, 1)), new int[2]);
+		}
+	}
+
+	private static ModelDefinition createModel(int id, int size)
+	{
+		ModelDefinition def = new ModelDefinition();
+		def.id = id;
+		def.vertexCount = 4;
+		def.vertexPositionsX = new int[]{0, size, 0, 0};
+		def.vertexPositionsY = new int[]{0, 0, size, 0};
+		def.vertexPositionsZ = new int[]{0, 0, 0, size};
+		def.faceCount = 2;
+		def.faceVertexIndices1 = new int[]{0, 0};
+		def.faceVertexIndices2 = new int[]{1, 2};
+		def.faceVertexIndices3 = new int[]{2, 3};
+		def.faceColors = new short[]{100, 100};
+		return def;
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class PackedModelTest
+{
+	@Test
+	public void testNormals()
+	{
+		ModelDefinition def = createModel();
+		PackedModel packed = PackedModel.pack(createModel());
+
+		def.computeNormals();
+
+		int[] vertexNormals = packed.getVertexNormals();
+		for (int i = 0; i < def.vertexCount; ++i)
+		{
+			VertexNormal normal = def.vertexNormals[i];
+			assertEquals(normal.x, vertexNormals[i * PackedModel.VERTEX_NORMAL_STRIDE]);
+			assertEquals(normal.y, vertexNormals[i * PackedModel.VERTEX_NORMAL_STRIDE + 1]);
+			assertEquals(normal.z, vertexNormals[i * PackedModel.VERTEX_NORMAL_STRIDE + 2]);
+			assertEquals(normal.magnitude, vertexNormals[i * PackedModel.VERTEX_NORMAL_STRIDE + 3]);
+		}
+
+		int[] faceNormals = packed.getFaceNormals();
+		for (int i = 0; i < def.faceCount; ++i)
+		{
+			FaceNormal normal = def.faceNormals[i];
+			if (normal == null)
+			{
+				continue;
+			}
+
+			assertEquals(normal.x, faceNormals[i * 3]);
+			assertEquals(normal.y, faceNormals[i * 3 + 1]);
+			assertEquals(normal.z, faceNormals[i * 3 + 2]);
+		}
+	}
+
+	@Test
+	public void testNoFaceNormals()
+	{
+		ModelDefinition def = createModel();
+		def.faceRenderTypes = null;
+
+		PackedModel packed = PackedModel.pack(def);
+		assertNull(packed.getFaceNormals());
+		assertEquals(def.vertexCount * PackedModel.VERTEX_NORMAL_STRIDE, packed.getVertexNormals().length);
+	}
+
+	@Test
+	public void testUnpack()
+	{
+		ModelDefinition def = createModel();
+		PackedModel packed = PackedModel.pack(createModel());
+
+		assertEquals(20, packed.getVertexY(2));
+		assertEquals(3, packed.getFaceVertexC(2));
+		assertEquals(-1, packed.getFaceTexture(0));
+
+		ModelDefinition unpacked = packed.unpack();
+		assertEquals(def.vertexCount, unpacked.vertexCount);
+		assertArrayEquals(def.vertexPositionsX, unpacked.vertexPositionsX);
+		assertArrayEquals(def.vertexPositionsY, unpacked.vertexPositionsY);
+		assertArrayEquals(def.vertexPositionsZ, unpacked.vertexPositionsZ);
+		assertEquals(def.faceCount, unpacked.faceCount);
+		assertArrayEquals(def.faceVertexIndices1, unpacked.faceVertexIndices1);
+		assertArrayEquals(def.faceVertexIndices2, unpacked.faceVertexIndices2);
+		assertArrayEquals(def.faceVertexIndices3, unpacked.faceVertexIndices3);
+		assertArrayEquals(def.faceColors, unpacked.faceColors);
+		assertArrayEquals(def.faceRenderTypes, unpacked.faceRenderTypes);
+
+		// unpacked models own their arrays
+		unpacked.recolor((short) 100, (short) 200);
+		assertEquals(100, packed.getFaceColor(0));
+	}
+
+	@Test
+	public void testCache() throws IOException
+	{
+		int[] loads = new int[1];
+		PackedModelCache cache = new PackedModelCache(modelId ->
+		{
+			++loads[0];
+			return modelId == 1 ? createModel() : null;
+		}, 1L << 20);
+
+		ModelDefinition first = cache.provide(1);
+		ModelDefinition second = cache.provide(1);
+		assertEquals(1, loads[0]);
+		assertEquals(1, cache.size());
+		assertSame(cache.getModel(1), cache.getModel(1));
+
+		// each definition provided is a private copy
+		first.recolor((short) 100, (short) 200);
+		assertEquals(100, second.faceColors[0]);
+		assertEquals(100, cache.getModel(1).getFaceColor(0));
+
+		assertNull(cache.provide(2));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	@Ignore
+	public void testMemory() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Storage storage = store.getStorage();
+			Index index = store.getIndex(IndexType.MODELS);
+			ModelLoader loader = new ModelLoader();
+
+			List<byte[]> contents = new ArrayList<>();
+			for (Archive archive : index.getArchives())
+			{
+				contents.add(archive.decompress(storage.loadArchive(archive)));
+			}
+
+			List<ModelDefinition> definitions = new ArrayList<>(contents.size());
+			long before = usedMemory();
+			for (int i = 0; i < contents.size(); ++i)
+			{
+				definitions.add(loader.load(i, contents.get(i)));
+			}
+			long definitionBytes = usedMemory() - before;
+			definitions.clear();
+
+			List<PackedModel> packed = new ArrayList<>(contents.size());
+			before = usedMemory();
+			for (int i = 0; i < contents.size(); ++i)
+			{
+				packed.add(loader.loadPacked(i, contents.get(i)));
+			}
+			long packedBytes = usedMemory() - before;
+
+			for (PackedModel model : packed)
+			{
+				model.getVertexNormals();
+			}
+			long packedNormalBytes = usedMemory() - before;
+
+			log.info("{} models: definitions {} KB, packed {} KB, packed with normals {} KB",
+				packed.size(), definitionBytes / 1024, packedBytes / 1024, packedNormalBytes / 1024);
+		}
+	}
+
+	private static long usedMemory()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; ++i)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static ModelDefinition createModel()
+	{
+		ModelDefinition def = new ModelDefinition();
+		def.id = 1;
+		def.vertexCount = 4;
+		def.vertexPositionsX = new int[]{0, 100, 0, 0};
+		def.vertexPositionsY = new int[]{0, 0, 20, 0};
+		def.vertexPositionsZ = new int[]{0, 0, 0, 300};
+		def.faceCount = 3;
+		def.faceVertexIndices1 = new int[]{0, 0, 0};
+		def.faceVertexIndices2 = new int[]{1, 1, 2};
+		def.faceVertexIndices3 = new int[]{2, 3, 3};
+		def.faceColors = new short[]{100, 101, 102};
+		def.faceRenderTypes = new byte[]{0, 1, 0};
+		return def;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * A read-only, array backed snapshot of the actors in the scene.
+ * <p>
+ * Snapshots are immutable once created, so they may be held onto and iterated
+ * from any thread, but they will not reflect actors which spawn or despawn
+ * after they were taken.
+ *
+ * @param <T> the actor type
+ */
+public final class ActorSnapshot<T extends Actor> extends AbstractList<T> implements RandomAccess
+{
+	private final T[] actors;
+	private final int size;
+
+	/**
+	 * Actor indexes packed with the scene tile they are on, sorted by tile.
+	 * Built the first time the snapshot is queried by location.
+	 */
+	private volatile long[] tileIndex;
+
+	/**
+	 * @param actors the array holding the actors, which must not be modified afterwards
+	 * @param size the number of actors in the array
+	 */
+	public ActorSnapshot(T[] actors, int size)
+	{
+		this.actors = actors;
+		this.size = size;
+	}
+
+	@Override
+	public T get(int index)
+	{
+		if (index < 0 || index >= size)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		return actors[index];
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Gets the actors standing within a distance of a point. Distance is measured in
+	 * scene tiles on each axis, so a distance of 0 returns the actors on the same tile
+	 * as the point, and a distance of 1 those in the 3x3 area around it.
+	 *
+	 * @param point the point to search around
+	 * @param distance the maximum distance in tiles
+	 * @return the actors near the point
+	 */
+	public List<T> getNear(LocalPoint point, int distance)
+	{
+		final long[] index = getTileIndex();
+		if (index.length == 0)
+		{
+			return Collections.emptyList();
+		}
+
+		final int minX = Math.max(0, point.getSceneX() - distance);
+		final int maxX = Math.min(Constants.SCENE_SIZE - 1, point.getSceneX() + distance);
+		final int minY = Math.max(0, point.getSceneY() - distance);
+		final int maxY = Math.min(Constants.SCENE_SIZE - 1, point.getSceneY() + distance);
+
+		List<T> near = new ArrayList<>();
+		for (int x = minX; x <= maxX; ++x)
+		{
+			// the tiles of a column are contiguous in the index
+			int i = lowerBound(index, pack(tile(x, minY), 0));
+			final long end = pack(tile(x, maxY), Integer.MAX_VALUE);
+			for (; i < index.length && index[i] <= end; ++i)
+			{
+				near.add(actors[(int) index[i]]);
+			}
+		}
+
+		return near;
+	}
+
+	private long[] getTileIndex()
+	{
+		long[] index = tileIndex;
+		if (index != null)
+		{
+			return index;
+		}
+
+		index = new long[size];
+		int count = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			final T actor = actors[i];
+			if (actor == null)
+			{
+				continue;
+			}
+
+			final LocalPoint lp = actor.getLocalLocation();
+			if (lp == null)
+			{
+				continue;
+			}
+
+			final int sceneX = lp.getSceneX();
+			final int sceneY = lp.getSceneY();
+			if (sceneX < 0 || sceneY < 0 || sceneX >= Constants.SCENE_SIZE || sceneY >= Constants.SCENE_SIZE)
+			{
+				continue;
+			}
+
+			index[count++] = pack(tile(sceneX, sceneY), i);
+		}
+
+		index = Arrays.copyOf(index, count);
+		Arrays.sort(index);
+		tileIndex = index;
+		return index;
+	}
+
+	private static int tile(int sceneX, int sceneY)
+	{
+		return sceneX * Constants.SCENE_SIZE + sceneY;
+	}
+
+	private static long pack(int tile, int actorIndex)
+	{
+		return (long) tile << 32 | actorIndex;
+	}
+
+	/**
+	 * Finds the first position in a sorted array holding a value no lower than the key
+	 */
+	private static int lowerBound(long[] values, long key)
+	{
+		int low = 0;
+		int high = values.length;
+		while (low < high)
+		{
+			final int mid = (low + high) >>> 1;
+			if (values[mid] < key)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
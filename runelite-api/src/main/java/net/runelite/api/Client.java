@@ -62,18 +62,44 @@ public interface Client extends GameEngine
 
 	/**
 	 * Gets a list of all valid players from the player cache.
+	 * <p>
+	 * The list is a read-only snapshot which is shared by all callers
+	 * until the next client tick, or until a player spawns or despawns.
 	 *
 	 * @return a list of all players
 	 */
 	List<Player> getPlayers();
 
+	/**
+	 * Gets the players within a distance of a point.
+	 *
+	 * @param point the point to search around
+	 * @param distance the maximum distance from the point, in tiles
+	 * @return a list of the nearby players
+	 * @see ActorSnapshot#getNear(LocalPoint, int)
+	 */
+	List<Player> getPlayers(LocalPoint point, int distance);
+
 	/**
 	 * Gets a list of all valid NPCs from the NPC cache.
+	 * <p>
+	 * The list is a read-only snapshot which is shared by all callers
+	 * until the next client tick, or until an NPC spawns or despawns.
 	 *
 	 * @return a list of all NPCs
 	 */
 	List<NPC> getNpcs();
 
+	/**
+	 * Gets the NPCs within a distance of a point.
+	 *
+	 * @param point the point to search around
+	 * @param distance the maximum distance from the point, in tiles
+	 * @return a list of the nearby NPCs
+	 * @see ActorSnapshot#getNear(LocalPoint, int)
+	 */
+	List<NPC> getNpcs(LocalPoint point, int distance);
+
 	/**
 	 * Gets an array of all cached NPCs.
 	 *
@@ -366,6 +392,16 @@ public interface Client extends GameEngine
 	 */
 	IndexDataBase getIndexScripts();
 
+	/**
+	 * Gets the config index, which holds item, npc and object definitions.
+	 */
+	IndexDataBase getIndexConfig();
+
+	/**
+	 * Gets the model index.
+	 */
+	IndexDataBase getIndexModels();
+
 	/**
 	 * Returns the x-axis base coordinate.
 	 * <p>
@@ -554,6 +590,101 @@ public interface Client extends GameEngine
 	 */
 	void setMenuEntries(MenuEntry[] entries);
 
+	/**
+	 * Gets the number of entries in the menu.
+	 * <p>
+	 * The methods below access the menu entries in place, without copying
+	 * them into {@link MenuEntry} objects. Entries are indexed the same way
+	 * as {@link #getMenuEntries()}, so the last entry is the top of the menu.
+	 *
+	 * @return the number of menu entries
+	 */
+	int getMenuEntryCount();
+
+	/**
+	 * Gets the option of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the option text
+	 * @see MenuEntry#getOption()
+	 */
+	String getMenuEntryOption(int index);
+
+	/**
+	 * Sets the option of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @param option the new option text
+	 */
+	void setMenuEntryOption(int index, String option);
+
+	/**
+	 * Gets the target of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the target text
+	 * @see MenuEntry#getTarget()
+	 */
+	String getMenuEntryTarget(int index);
+
+	/**
+	 * Sets the target of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @param target the new target text
+	 */
+	void setMenuEntryTarget(int index, String target);
+
+	/**
+	 * Gets the identifier of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the identifier
+	 * @see MenuEntry#getIdentifier()
+	 */
+	int getMenuEntryIdentifier(int index);
+
+	/**
+	 * Gets the action type of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the action type
+	 * @see MenuEntry#getType()
+	 */
+	int getMenuEntryType(int index);
+
+	/**
+	 * Sets the action type of a menu entry.
+	 *
+	 * @param index the index of the entry
+	 * @param type the new action type
+	 */
+	void setMenuEntryType(int index, int type);
+
+	/**
+	 * Swaps the positions of two menu entries.
+	 *
+	 * @param index1 the index of the first entry
+	 * @param index2 the index of the second entry
+	 */
+	void swapMenuEntries(int index1, int index2);
+
+	/**
+	 * Inserts an entry into the menu, moving the entries at and above the
+	 * index up by one. Does nothing if the menu is full.
+	 *
+	 * @param index the index to insert the entry at
+	 * @param entry the entry to insert
+	 */
+	void insertMenuEntry(int index, MenuEntry entry);
+
+	/**
+	 * Removes an entry from the menu, moving the entries above it down by one.
+	 *
+	 * @param index the index of the entry to remove
+	 */
+	void removeMenuEntry(int index);
+
 	/**
 	 * Checks whether a right-click menu is currently open.
 	 *
@@ -27,20 +27,14 @@ package net.runelite.api;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.awt.Rectangle;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.model.Jarvis;
-import net.runelite.api.model.Triangle;
-import net.runelite.api.model.Vertex;
+import net.runelite.api.model.MonotoneChain;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 
@@ -234,8 +228,22 @@ public class Perspective
 	 */
 	public static int getTileHeight(@Nonnull Client client, @Nonnull LocalPoint point, int plane)
 	{
-		int sceneX = point.getSceneX();
-		int sceneY = point.getSceneY();
+		return getTileHeight(client, point.getX(), point.getY(), plane);
+	}
+
+	/**
+	 * Calculates the above ground height of a tile point.
+	 *
+	 * @param client the game client
+	 * @param localX the local ground x coordinate
+	 * @param localY the local ground y coordinate
+	 * @param plane the client plane/ground level
+	 * @return the offset from the ground of the tile
+	 */
+	public static int getTileHeight(@Nonnull Client client, int localX, int localY, int plane)
+	{
+		int sceneX = localX >> LOCAL_COORD_BITS;
+		int sceneY = localY >> LOCAL_COORD_BITS;
 		if (sceneX >= 0 && sceneY >= 0 && sceneX < SCENE_SIZE && sceneY < SCENE_SIZE)
 		{
 			byte[][][] tileSettings = client.getTileSettings();
@@ -247,8 +255,8 @@ public class Perspective
 				z1 = plane + 1;
 			}
 
-			int x = point.getX() & (LOCAL_TILE_SIZE - 1);
-			int y = point.getY() & (LOCAL_TILE_SIZE - 1);
+			int x = localX & (LOCAL_TILE_SIZE - 1);
+			int y = localY & (LOCAL_TILE_SIZE - 1);
 			int var8 = x * tileHeights[z1][sceneX + 1][sceneY] + (LOCAL_TILE_SIZE - x) * tileHeights[z1][sceneX][sceneY] >> LOCAL_COORD_BITS;
 			int var9 = tileHeights[z1][sceneX][sceneY + 1] * (LOCAL_TILE_SIZE - x) + x * tileHeights[z1][sceneX + 1][sceneY + 1] >> LOCAL_COORD_BITS;
 			return (LOCAL_TILE_SIZE - y) * var8 + y * var9 >> LOCAL_COORD_BITS;
@@ -508,114 +516,168 @@ public class Perspective
 			return null;
 		}
 
-		List<Triangle> triangles = model.getTriangles().stream()
-			.map(triangle -> triangle.rotate(orientation))
-			.collect(Collectors.toList());
-
-		List<Vertex> vertices = model.getVertices().stream()
-				.map(v -> v.rotate(orientation))
-				.collect(Collectors.toList());
+		final int count = model.getVerticesCount();
+		final int[] x2d = new int[count];
+		final int[] y2d = new int[count];
+		final int tileHeight = getTileHeight(client, point, client.getPlane());
 
-		Area clickBox = get2DGeometry(client, triangles, point);
-		Area visibleAABB = getAABB(client, vertices, point);
+		modelToCanvas(client, count, point.getX(), point.getY(), tileHeight, orientation,
+			model.getVerticesX(), model.getVerticesY(), model.getVerticesZ(),
+			x2d, y2d);
 
+		Area visibleAABB = getAABB(client, model, orientation, point, tileHeight);
 		if (visibleAABB == null)
 		{
 			return null;
 		}
 
+		Polygon hull = get2DGeometry(x2d, y2d, count);
+		if (hull == null)
+		{
+			return new Area();
+		}
+
+		Area clickBox = new Area(hull);
 		clickBox.intersect(visibleAABB);
 		return clickBox;
 	}
 
 	/**
-	 * Determine if a given point is off-screen.
+	 * Rotates and translates the vertices of a model and projects them onto the canvas.
+	 * All vertices are projected in a single pass, into caller provided buffers, so
+	 * projecting a model does not allocate.
+	 * <p>
+	 * Vertices which can not be projected, such as those behind the camera, have their
+	 * coordinates set to {@link Integer#MIN_VALUE}.
 	 *
-	 * @param client
-	 * @param point
-	 * @return
+	 * @param client the game client
+	 * @param end the number of vertices to project
+	 * @param x3dCenter local x coordinate of the model
+	 * @param y3dCenter local y coordinate of the model
+	 * @param z3dCenter height of the model, as returned by {@link #getTileHeight}
+	 * @param rotate the orientation of the model (0-2048, where 0 is north)
+	 * @param x3dIn x coordinates of the model vertices
+	 * @param y3dIn y (height) coordinates of the model vertices
+	 * @param z3dIn z coordinates of the model vertices
+	 * @param x2dOut canvas x coordinates of the projected vertices
+	 * @param y2dOut canvas y coordinates of the projected vertices
 	 */
-	private static boolean isOffscreen(@Nonnull Client client, @Nonnull Point point)
+	public static void modelToCanvas(@Nonnull Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate,
+		int[] x3dIn, int[] y3dIn, int[] z3dIn, int[] x2dOut, int[] y2dOut)
 	{
-		return (point.getX() < 0 || point.getX() >= client.getViewportWidth())
-			&& (point.getY() < 0 || point.getY() >= client.getViewportHeight());
-	}
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
 
-	private static @Nonnull Area get2DGeometry(
-		@Nonnull Client client,
-		@Nonnull List<Triangle> triangles,
-		@Nonnull LocalPoint point
-	)
-	{
-		int radius = 5;
-		Area geometry = new Area();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
 
-		final int tileHeight = getTileHeight(client, point, client.getPlane());
+		final int pitchSin = SINE[cameraPitch];
+		final int pitchCos = COSINE[cameraPitch];
+		final int yawSin = SINE[cameraYaw];
+		final int yawCos = COSINE[cameraYaw];
+
+		final int scale = client.getScale();
+		final int viewportX = client.getViewportWidth() / 2 + client.getViewportXOffset();
+		final int viewportY = client.getViewportHeight() / 2 + client.getViewportYOffset();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		final int orientation = (rotate + 1024) % 2048;
+		final int rotateSin = SINE[orientation];
+		final int rotateCos = COSINE[orientation];
 
-		for (Triangle triangle : triangles)
+		for (int i = 0; i < end; ++i)
 		{
-			Vertex _a = triangle.getA();
-			Point a = localToCanvas(client,
-				point.getX() - _a.getX(),
-				point.getY() - _a.getZ(),
-				tileHeight + _a.getY());
-			if (a == null)
-			{
-				continue;
-			}
+			int vx = x3dIn[i];
+			int vz = z3dIn[i];
 
-			Vertex _b = triangle.getB();
-			Point b = localToCanvas(client,
-				point.getX() - _b.getX(),
-				point.getY() - _b.getZ(),
-				tileHeight + _b.getY());
-			if (b == null)
+			if (orientation != 0)
 			{
-				continue;
+				final int rx = vx * rotateCos + vz * rotateSin >> 16;
+				vz = vz * rotateCos - vx * rotateSin >> 16;
+				vx = rx;
 			}
 
-			Vertex _c = triangle.getC();
-			Point c = localToCanvas(client,
-				point.getX() - _c.getX(),
-				point.getY() - _c.getZ(),
-				tileHeight + _c.getY());
-			if (c == null)
+			int x = x3dCenter - vx;
+			int y = y3dCenter - vz;
+			int z = z3dCenter + y3dIn[i];
+
+			if (x < 128 || y < 128 || x > 13056 || y > 13056)
 			{
+				x2dOut[i] = Integer.MIN_VALUE;
+				y2dOut[i] = Integer.MIN_VALUE;
 				continue;
 			}
 
-			if (isOffscreen(client, a) && isOffscreen(client, b) && isOffscreen(client, c))
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			int var8 = yawCos * x + y * yawSin >> 16;
+			y = yawCos * y - yawSin * x >> 16;
+			x = var8;
+			var8 = pitchCos * z - y * pitchSin >> 16;
+			y = z * pitchSin + y * pitchCos >> 16;
+
+			if (y < 50)
 			{
+				x2dOut[i] = Integer.MIN_VALUE;
+				y2dOut[i] = Integer.MIN_VALUE;
 				continue;
 			}
 
-			int minX = Math.min(Math.min(a.getX(), b.getX()), c.getX());
-			int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
+			x2dOut[i] = viewportX + x * scale / y;
+			y2dOut[i] = viewportY + var8 * scale / y;
+		}
+	}
 
-			// For some reason, this calculation is always 4 pixels short of the actual in-client one
-			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + 4;
-			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + 4;
+	/**
+	 * Builds the clickable outline of a projected model. Every projected vertex is
+	 * expanded to the same padded box the client uses for clickboxes, and the convex
+	 * hull of those boxes is returned.
+	 */
+	private static @Nullable Polygon get2DGeometry(
+		@Nonnull int[] x2d,
+		@Nonnull int[] y2d,
+		int count
+	)
+	{
+		final int radius = 5;
+		// For some reason, this calculation is always 4 pixels short of the actual in-client one
+		final int fudge = 4;
 
-			Rectangle clickableRect = new Rectangle(
-				minX - radius, minY - radius,
-				maxX - minX + radius, maxY - minY + radius
-			);
+		final int[] xs = new int[count * 4];
+		final int[] ys = new int[count * 4];
+		int n = 0;
 
-			if (geometry.contains(clickableRect))
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = x2d[i];
+			final int y = y2d[i];
+			if (x == Integer.MIN_VALUE)
 			{
 				continue;
 			}
 
-			geometry.add(new Area(clickableRect));
+			xs[n] = x - radius;
+			ys[n++] = y - radius;
+			xs[n] = x + fudge;
+			ys[n++] = y - radius;
+			xs[n] = x - radius;
+			ys[n++] = y + fudge;
+			xs[n] = x + fudge;
+			ys[n++] = y + fudge;
 		}
 
-		return geometry;
+		return MonotoneChain.convexHull(xs, ys, n);
 	}
 
 	private static Area getAABB(
 		@Nonnull Client client,
-		@Nonnull List<Vertex> vertices,
-		@Nonnull LocalPoint point
+		@Nonnull Model model,
+		int orientation,
+		@Nonnull LocalPoint point,
+		int tileHeight
 	)
 	{
 		int maxX = 0;
@@ -625,11 +687,28 @@ public class Perspective
 		int maxZ = 0;
 		int minZ = 0;
 
-		for (Vertex vertex : vertices)
+		final int count = model.getVerticesCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		orientation = (orientation + 1024) % 2048;
+		final int sin = SINE[orientation];
+		final int cos = COSINE[orientation];
+
+		for (int i = 0; i < count; ++i)
 		{
-			int x = vertex.getX();
-			int y = vertex.getY();
-			int z = vertex.getZ();
+			int x = verticesX[i];
+			int y = verticesY[i];
+			int z = verticesZ[i];
+
+			if (orientation != 0)
+			{
+				final int rx = x * cos + z * sin >> 16;
+				z = z * cos - x * sin >> 16;
+				x = rx;
+			}
 
 			if (x > maxX)
 			{
@@ -685,8 +764,6 @@ public class Perspective
 		int y2 = centerY + extremeY;
 		int z2 = point.getY() - (centerZ + extremeZ);
 
-		final int tileHeight = getTileHeight(client, point, client.getPlane());
-
 		Point p1 = localToCanvas(client, x1, z1, tileHeight + y1);
 		Point p2 = localToCanvas(client, x1, z2, tileHeight + y1);
 		Point p3 = localToCanvas(client, x2, z2, tileHeight + y1);
@@ -697,40 +774,22 @@ public class Perspective
 		Point p7 = localToCanvas(client, x2, z2, tileHeight + y2);
 		Point p8 = localToCanvas(client, x2, z1, tileHeight + y2);
 
-		List<Point> points = new ArrayList<>(8);
-		points.add(p1);
-		points.add(p2);
-		points.add(p3);
-		points.add(p4);
-		points.add(p5);
-		points.add(p6);
-		points.add(p7);
-		points.add(p8);
-
-		try
+		Point[] points = {p1, p2, p3, p4, p5, p6, p7, p8};
+		int[] xs = new int[points.length];
+		int[] ys = new int[points.length];
+		for (int i = 0; i < points.length; ++i)
 		{
-			points = Jarvis.convexHull(points);
-		}
-		catch (NullPointerException e)
-		{
-			// No non-null screen points for this AABB e.g. for an way off-screen model
-			return null;
-		}
-
-		if (points == null)
-		{
-			return null;
-		}
-
-		Polygon hull = new Polygon();
-		for (Point p : points)
-		{
-			if (p != null)
+			if (points[i] == null)
 			{
-				hull.addPoint(p.getX(), p.getY());
+				// Points can be null if they are behind or very close to the camera
+				return null;
 			}
+
+			xs[i] = points[i].getX();
+			ys[i] = points[i].getY();
 		}
 
+		Polygon hull = MonotoneChain.convexHull(xs, ys, points.length);
 		return new Area(hull);
 	}
 
@@ -24,6 +24,7 @@
  */
 package net.runelite.api.model;
 
+import java.awt.Polygon;
 import java.util.ArrayList;
 import java.util.List;
 import net.runelite.api.Point;
@@ -32,20 +33,21 @@ import net.runelite.api.Point;
  * Provides utility methods for computing the convex hull of a list of
  * <em>n</em> points.
  * <p>
- * The implementation uses the Jarvis march algorithm and runs in O(nh)
- * time in the worst case, where n is the number of points and h the
- * number of points on the convex hull.
+ * This is kept for compatibility and delegates to {@link MonotoneChain},
+ * which runs in O(n log n) time. Prefer using {@link MonotoneChain} directly
+ * with primitive coordinate arrays.
  */
 public class Jarvis
 {
 	/**
 	 * Computes and returns the convex hull of the passed points.
 	 * <p>
-	 * The size of the list must be at least 4, otherwise this method will
+	 * The size of the list must be at least 3, otherwise this method will
 	 * return null.
 	 *
 	 * @param points list of points
-	 * @return list containing the points part of the convex hull
+	 * @return list containing the points part of the convex hull, or null
+	 * if any of the points are null
 	 */
 	public static List<Point> convexHull(List<Point> points)
 	{
@@ -54,79 +56,43 @@ public class Jarvis
 			return null;
 		}
 
-		List<Point> ch = new ArrayList<>();
-
-		// find the left most point
-		Point left = findLeftMost(points);
-
-		// current point we are on
-		Point current = left;
-
-		do
+		final int[] xs = new int[points.size()];
+		final int[] ys = new int[points.size()];
+		for (int i = 0; i < xs.length; ++i)
 		{
-			ch.add(current);
-			assert ch.size() <= points.size() : "hull has more points than graph";
-			if (ch.size() > points.size())
-			{
-				// Just to make sure we never somehow get stuck in this loop
-				return null;
-			}
-
-			// the next point - all points are to the right of the
-			// line between current and next
-			Point next = null;
-
-			for (Point p : points)
-			{
-				if (next == null)
-				{
-					next = p;
-					continue;
-				}
-
-				long cp = crossProduct(current, p, next);
-				if (cp > 0 || (cp == 0 && current.distanceTo(p) > current.distanceTo(next)))
-				{
-					next = p;
-				}
-			}
+			Point p = points.get(i);
 
 			// Points can be null if they are behind or very close to the camera.
-			if (next == null)
+			if (p == null)
 			{
 				return null;
 			}
 
-			current = next;
+			xs[i] = p.getX();
+			ys[i] = p.getY();
 		}
-		while (current != left);
-
-		return ch;
-	}
-
-	private static Point findLeftMost(List<Point> points)
-	{
-		Point left = null;
 
-		for (Point p : points)
+		final Polygon hull = MonotoneChain.convexHull(xs, ys, xs.length);
+		final List<Point> ch = new ArrayList<>(hull.npoints);
+		for (int i = 0; i < hull.npoints; ++i)
 		{
-			if (left == null || p.getX() < left.getX())
-			{
-				left = p;
-			}
-			else if (p.getX() == left.getX() && p.getY() < left.getY())
-			{
-				left = p;
-			}
+			ch.add(new Point(hull.xpoints[i], hull.ypoints[i]));
 		}
 
-		return left;
+		return ch;
 	}
 
-	private static long crossProduct(Point p, Point q, Point r)
+	/**
+	 * Computes the convex hull of the first {@code count} points of the
+	 * passed coordinate arrays, without boxing the points.
+	 *
+	 * @param xs x coordinates of the points
+	 * @param ys y coordinates of the points
+	 * @param count number of points
+	 * @return the convex hull, or null if there are less than 3 points
+	 */
+	public static Polygon convexHull(int[] xs, int[] ys, int count)
 	{
-		long val = (long)(q.getY() - p.getY()) * (r.getX() - q.getX())
-			- (long)(q.getX() - p.getX()) * (r.getY() - q.getY());
-		return val;
+		return MonotoneChain.convexHull(xs, ys, count);
 	}
 }
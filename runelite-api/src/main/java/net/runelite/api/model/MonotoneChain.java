@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.awt.Polygon;
+import java.util.Arrays;
+
+/**
+ * Provides utility methods for computing the convex hull of <em>n</em>
+ * points stored in primitive coordinate arrays.
+ * <p>
+ * The implementation uses Andrew's monotone chain algorithm and runs in
+ * O(n log n) time. The hull is returned in the same order as {@link Jarvis},
+ * starting from the left most point, and does not contain collinear points.
+ */
+public class MonotoneChain
+{
+	/**
+	 * Computes the convex hull of the first {@code count} points of the
+	 * passed coordinate arrays.
+	 *
+	 * @param xs x coordinates of the points
+	 * @param ys y coordinates of the points
+	 * @param count number of points
+	 * @return the convex hull, or null if there are less than 3 points
+	 */
+	public static Polygon convexHull(int[] xs, int[] ys, int count)
+	{
+		if (count < 3)
+		{
+			return null;
+		}
+
+		// Sort the points by x, then y. Each point is packed into a long with the
+		// sign bit of y flipped, so sorting the longs sorts the points.
+		final long[] points = new long[count];
+		for (int i = 0; i < count; ++i)
+		{
+			points[i] = ((long) xs[i] << 32) | ((ys[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+		}
+		Arrays.sort(points);
+
+		final int[] hx = new int[count + 1];
+		final int[] hy = new int[count + 1];
+		int k = 0;
+
+		// build the first half of the hull from the left most to the right most point
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = (int) (points[i] >> 32);
+			final int y = (int) points[i] ^ Integer.MIN_VALUE;
+
+			while (k >= 2 && crossProduct(hx[k - 2], hy[k - 2], hx[k - 1], hy[k - 1], x, y) >= 0)
+			{
+				--k;
+			}
+
+			hx[k] = x;
+			hy[k] = y;
+			++k;
+		}
+
+		// and the second half back to the left most point
+		for (int i = count - 2, t = k + 1; i >= 0; --i)
+		{
+			final int x = (int) (points[i] >> 32);
+			final int y = (int) points[i] ^ Integer.MIN_VALUE;
+
+			while (k >= t && crossProduct(hx[k - 2], hy[k - 2], hx[k - 1], hy[k - 1], x, y) >= 0)
+			{
+				--k;
+			}
+
+			hx[k] = x;
+			hy[k] = y;
+			++k;
+		}
+
+		// the last point is the left most point again
+		return new Polygon(hx, hy, Math.max(1, k - 1));
+	}
+
+	private static long crossProduct(int ox, int oy, int ax, int ay, int bx, int by)
+	{
+		return (long) (ax - ox) * (by - oy) - (long) (ay - oy) * (bx - ox);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ActorSnapshotTest
+{
+	@Test
+	public void testGetNear()
+	{
+		Actor origin = actor(LocalPoint.fromScene(50, 50));
+		Actor adjacent = actor(LocalPoint.fromScene(51, 49));
+		Actor twoAway = actor(LocalPoint.fromScene(48, 52));
+		Actor farAway = actor(LocalPoint.fromScene(60, 50));
+		Actor sameColumn = actor(LocalPoint.fromScene(50, 53));
+
+		ActorSnapshot<Actor> snapshot = new ActorSnapshot<>(new Actor[]{
+			farAway, origin, twoAway, adjacent, sameColumn, null
+		}, 5);
+
+		LocalPoint point = LocalPoint.fromScene(50, 50);
+		assertNear(snapshot.getNear(point, 0), origin);
+		assertNear(snapshot.getNear(point, 1), origin, adjacent);
+		assertNear(snapshot.getNear(point, 2), origin, adjacent, twoAway);
+		assertNear(snapshot.getNear(point, 3), origin, adjacent, twoAway, sameColumn);
+		assertNear(snapshot.getNear(point, 10), origin, adjacent, twoAway, sameColumn, farAway);
+	}
+
+	@Test
+	public void testGetNearSceneEdge()
+	{
+		Actor corner = actor(LocalPoint.fromScene(0, 0));
+		Actor farCorner = actor(LocalPoint.fromScene(Constants.SCENE_SIZE - 1, Constants.SCENE_SIZE - 1));
+		Actor outside = actor(new LocalPoint(-128, 64));
+		Actor nowhere = actor(null);
+
+		ActorSnapshot<Actor> snapshot = new ActorSnapshot<>(new Actor[]{
+			corner, farCorner, outside, nowhere
+		}, 4);
+
+		// the search area is clamped to the scene, and actors outside of it are never found
+		assertNear(snapshot.getNear(LocalPoint.fromScene(0, 0), 2), corner);
+		assertNear(snapshot.getNear(LocalPoint.fromScene(Constants.SCENE_SIZE - 1, Constants.SCENE_SIZE - 1), 1), farCorner);
+		assertNear(snapshot.getNear(LocalPoint.fromScene(52, 52), Constants.SCENE_SIZE), corner, farCorner);
+	}
+
+	@Test
+	public void testGetNearEmpty()
+	{
+		ActorSnapshot<Actor> snapshot = new ActorSnapshot<>(new Actor[0], 0);
+		assertTrue(snapshot.getNear(LocalPoint.fromScene(50, 50), 5).isEmpty());
+	}
+
+	private static void assertNear(List<Actor> near, Actor... expected)
+	{
+		assertEquals(expected.length, near.size());
+		assertEquals(new HashSet<>(Arrays.asList(expected)), new HashSet<>(near));
+	}
+
+	private static Actor actor(LocalPoint location)
+	{
+		return (Actor) Proxy.newProxyInstance(Actor.class.getClassLoader(), new Class<?>[]{Actor.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getLocalLocation":
+					return location;
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
@@ -51,8 +51,10 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.discord.DiscordService;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ClanManager;
+import net.runelite.client.game.CollisionManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.LootManager;
+import net.runelite.client.game.TileProjectionCache;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.Plugin;
@@ -121,6 +123,12 @@ public class RuneLite
 	@Inject
 	private Provider<OverlayRenderer> overlayRenderer;
 
+	@Inject
+	private Provider<TileProjectionCache> tileProjectionCache;
+
+	@Inject
+	private Provider<CollisionManager> collisionManager;
+
 	@Inject
 	private Provider<ClanManager> clanManager;
 
@@ -279,6 +287,8 @@ public class RuneLite
 			eventBus.register(overlayRenderer.get());
 			eventBus.register(clanManager.get());
 			eventBus.register(itemManager.get());
+			eventBus.register(tileProjectionCache.get());
+			eventBus.register(collisionManager.get());
 			eventBus.register(menuManager.get());
 			eventBus.register(chatMessageManager.get());
 			eventBus.register(commandManager.get());
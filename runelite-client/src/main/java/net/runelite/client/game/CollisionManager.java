@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Provides a shared {@link SceneCollision} snapshot of the loaded scene.
+ * <p>
+ * The snapshot is taken the first time it is requested after the scene is loaded.
+ * When an object that may change the collision, such as a door, spawns or despawns,
+ * only the tiles under it are taken again the next time the snapshot is requested.
+ */
+@Singleton
+public class CollisionManager
+{
+	private final Client client;
+
+	// areas which collision may have changed since the snapshot was taken
+	private final List<WorldArea> changedAreas = new ArrayList<>();
+
+	private SceneCollision sceneCollision;
+
+	@Inject
+	private CollisionManager(Client client)
+	{
+		this.client = client;
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING || event.getGameState() == GameState.LOGGED_IN)
+		{
+			invalidate();
+		}
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		tileChanged(event.getTile());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		tileChanged(event.getTile());
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		objectChanged(event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		objectChanged(event.getGameObject());
+	}
+
+	/**
+	 * Gets the collision snapshot of the loaded scene. This must be called on the client thread.
+	 *
+	 * @return the snapshot, or null if no scene is loaded
+	 */
+	@Nullable
+	public SceneCollision getSceneCollision()
+	{
+		if ((sceneCollision == null || !changedAreas.isEmpty()) && client.getGameState() == GameState.LOGGED_IN)
+		{
+			final CollisionData[] collisionMaps = client.getCollisionMaps();
+			if (collisionMaps != null)
+			{
+				final int[][][] flags = new int[collisionMaps.length][][];
+				for (int z = 0; z < collisionMaps.length; ++z)
+				{
+					flags[z] = collisionMaps[z] != null ? collisionMaps[z].getFlags() : null;
+				}
+
+				if (sceneCollision == null)
+				{
+					sceneCollision = new SceneCollision(flags, client.getBaseX(), client.getBaseY());
+				}
+				else
+				{
+					sceneCollision = sceneCollision.update(flags, changedAreas);
+				}
+				changedAreas.clear();
+			}
+		}
+
+		return sceneCollision;
+	}
+
+	private void tileChanged(Tile tile)
+	{
+		if (sceneCollision != null)
+		{
+			changedAreas.add(new WorldArea(tile.getWorldLocation(), 1, 1));
+		}
+	}
+
+	private void objectChanged(GameObject gameObject)
+	{
+		if (sceneCollision != null)
+		{
+			final Point min = gameObject.getSceneMinLocation();
+			final Point max = gameObject.getSceneMaxLocation();
+			changedAreas.add(new WorldArea(sceneCollision.getBaseX() + min.getX(), sceneCollision.getBaseY() + min.getY(),
+				max.getX() - min.getX() + 1, max.getY() - min.getY() + 1, gameObject.getPlane()));
+		}
+	}
+
+	private void invalidate()
+	{
+		sceneCollision = null;
+		changedAreas.clear();
+	}
+}
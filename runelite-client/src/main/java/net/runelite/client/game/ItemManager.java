@@ -29,16 +29,27 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.Value;
@@ -46,12 +57,14 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
+import net.runelite.api.IndexDataBase;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemID;
 import static net.runelite.api.ItemID.*;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.PostItemComposition;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.http.api.item.ItemClient;
@@ -62,14 +75,24 @@ import net.runelite.http.api.item.ItemStats;
 @Slf4j
 public class ItemManager
 {
+	/**
+	 * Identifies an item image, for requesting many images at once with {@link #getImages(Collection)}
+	 */
 	@Value
-	private static class ImageKey
+	public static class ImageKey
 	{
 		private final int itemId;
 		private final int itemQuantity;
 		private final boolean stackable;
 	}
 
+	@Value
+	private static class PendingImage
+	{
+		private final ImageKey key;
+		private final AsyncBufferedImage image;
+	}
+
 	@Value
 	private static class OutlineKey
 	{
@@ -78,16 +101,31 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	private static final File ICON_CACHE_DIR = new File(RuneLite.RUNELITE_DIR, "icons");
+
+	/**
+	 * Maximum number of item sprites rendered per frame for images requested off the client thread
+	 */
+	private static final int IMAGES_PER_FRAME = 16;
+
 	private final Client client;
 	private final ScheduledExecutorService scheduledExecutorService;
 	private final ClientThread clientThread;
 
 	private final ItemClient itemClient = new ItemClient();
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	// Resolved prices indexed by item id, with item mappings already applied
+	private volatile int[] resolvedPrices = new int[0];
+	// Canonical item ids indexed by item id, offset by one so that 0 means not yet resolved
+	private int[] canonicalIds = new int[0];
 	private Map<String, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
+	private final Queue<PendingImage> pendingImages = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean renderingImages = new AtomicBoolean();
+	// Cache revision the icon cache was last cleaned up for
+	private volatile String iconCacheRevision;
 
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
@@ -172,6 +210,12 @@ public class ItemManager
 				{
 					return loadImage(key.itemId, key.itemQuantity, key.stackable);
 				}
+
+				@Override
+				public Map<ImageKey, AsyncBufferedImage> loadAll(Iterable<? extends ImageKey> keys) throws Exception
+				{
+					return loadImages(keys);
+				}
 			});
 
 		itemCompositions = CacheBuilder.newBuilder()
@@ -212,6 +256,7 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				resolvedPrices = buildResolvedPrices(itemPrices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -222,6 +267,56 @@ public class ItemManager
 		}
 	}
 
+	private static int[] buildResolvedPrices(Map<Integer, ItemPrice> itemPrices)
+	{
+		int maxItemId = Math.max(ItemMapping.maxItemId(), ItemVariationMapping.maxItemId());
+		for (UntradeableItemMapping mapping : UntradeableItemMapping.values())
+		{
+			maxItemId = Math.max(maxItemId, mapping.getItemID());
+		}
+		for (int itemId : itemPrices.keySet())
+		{
+			maxItemId = Math.max(maxItemId, itemId);
+		}
+
+		final int[] prices = new int[maxItemId + 1];
+		for (int itemId = 0; itemId < prices.length; ++itemId)
+		{
+			prices[itemId] = resolveItemPrice(itemPrices, itemId);
+		}
+		return prices;
+	}
+
+	private static int resolveItemPrice(Map<Integer, ItemPrice> itemPrices, int itemID)
+	{
+		if (itemID == ItemID.COINS_995)
+		{
+			return 1;
+		}
+		if (itemID == ItemID.PLATINUM_TOKEN)
+		{
+			return 1000;
+		}
+
+		UntradeableItemMapping p = UntradeableItemMapping.map(ItemVariationMapping.map(itemID));
+		if (p != null)
+		{
+			return resolveItemPrice(itemPrices, p.getPriceID()) * p.getQuantity();
+		}
+
+		int price = 0;
+		for (int mappedID : ItemMapping.map(itemID))
+		{
+			ItemPrice ip = itemPrices.get(mappedID);
+			if (ip != null)
+			{
+				price += ip.getPrice();
+			}
+		}
+
+		return price;
+	}
+
 	private void loadStats()
 	{
 		try
@@ -247,6 +342,7 @@ public class ItemManager
 		if (event.getGameState() == GameState.HOPPING || event.getGameState() == GameState.LOGIN_SCREEN)
 		{
 			itemCompositions.invalidateAll();
+			Arrays.fill(canonicalIds, 0);
 		}
 	}
 
@@ -263,6 +359,7 @@ public class ItemManager
 	public void invalidateItemCompositionCache()
 	{
 		itemCompositions.invalidateAll();
+		Arrays.fill(canonicalIds, 0);
 	}
 
 	/**
@@ -282,23 +379,14 @@ public class ItemManager
 			return 1000;
 		}
 
-		UntradeableItemMapping p = UntradeableItemMapping.map(ItemVariationMapping.map(itemID));
-		if (p != null)
-		{
-			return getItemPrice(p.getPriceID()) * p.getQuantity();
-		}
-
-		int price = 0;
-		for (int mappedID : ItemMapping.map(itemID))
+		final int[] prices = resolvedPrices;
+		if (itemID < 0 || itemID >= prices.length)
 		{
-			ItemPrice ip = itemPrices.get(mappedID);
-			if (ip != null)
-			{
-				price += ip.getPrice();
-			}
+			// there are no mappings or prices past the end of the table
+			return 0;
 		}
 
-		return price;
+		return prices[itemID];
 	}
 
 	/**
@@ -357,6 +445,27 @@ public class ItemManager
 	 * Get an item's un-noted, un-placeholdered ID
 	 */
 	public int canonicalize(int itemID)
+	{
+		if (itemID < 0)
+		{
+			return resolveCanonical(itemID);
+		}
+
+		if (itemID < canonicalIds.length && canonicalIds[itemID] != 0)
+		{
+			return canonicalIds[itemID] - 1;
+		}
+
+		final int canonical = resolveCanonical(itemID);
+		if (itemID >= canonicalIds.length)
+		{
+			canonicalIds = Arrays.copyOf(canonicalIds, Math.max(itemID + 1, canonicalIds.length * 2));
+		}
+		canonicalIds[itemID] = canonical + 1;
+		return canonical;
+	}
+
+	private int resolveCanonical(int itemID)
 	{
 		ItemComposition itemComposition = getItemComposition(itemID);
 
@@ -374,33 +483,294 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from game, makes transparent, and generates image.
+	 * <p>
+	 * When called on the client thread the sprite is rendered immediately. Otherwise the
+	 * image is read from the on-disk icon cache if possible, and rendered on the client
+	 * thread in batches of {@link #IMAGES_PER_FRAME} otherwise.
 	 *
 	 * @param itemId
 	 * @return
 	 */
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
-		AsyncBufferedImage img = new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
-		clientThread.invoke(() ->
+		final ImageKey key = new ImageKey(itemId, quantity, stackable);
+		final AsyncBufferedImage img = new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+
+		if (client.isClientThread())
 		{
-			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+			clientThread.invoke(() ->
 			{
-				return false;
-			}
-			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
-				stackable ? 1 : 0, false, CLIENT_DEFAULT_ZOOM);
-			if (sprite == null)
+				if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+				{
+					return false;
+				}
+				return renderImage(key, img);
+			});
+			return img;
+		}
+
+		scheduledExecutorService.execute(() ->
+		{
+			if (!readCachedImage(key, img))
 			{
-				return false;
+				pendingImages.add(new PendingImage(key, img));
+				scheduleRenderPendingImages();
 			}
-			sprite.toBufferedImage(img);
-			img.changed();
-			return true;
 		});
 		return img;
 	}
 
+	/**
+	 * Loads the images of many items at once. Every image is looked up in the on-disk icon
+	 * cache in a single background pass, and the images which are not on disk are then queued
+	 * to be rendered together, in batches of {@link #IMAGES_PER_FRAME}. This is done even on
+	 * the client thread, so that a large request can't stall a frame.
+	 */
+	private Map<ImageKey, AsyncBufferedImage> loadImages(Iterable<? extends ImageKey> keys)
+	{
+		final Map<ImageKey, AsyncBufferedImage> images = new LinkedHashMap<>();
+		for (ImageKey key : keys)
+		{
+			images.put(key, new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB));
+		}
+
+		scheduledExecutorService.execute(() ->
+		{
+			for (Map.Entry<ImageKey, AsyncBufferedImage> entry : images.entrySet())
+			{
+				if (!readCachedImage(entry.getKey(), entry.getValue()))
+				{
+					pendingImages.add(new PendingImage(entry.getKey(), entry.getValue()));
+				}
+			}
+			scheduleRenderPendingImages();
+		});
+		return images;
+	}
+
+	private void scheduleRenderPendingImages()
+	{
+		if (!pendingImages.isEmpty() && !renderingImages.getAndSet(true))
+		{
+			clientThread.invokeLater(this::renderPendingImages);
+		}
+	}
+
+	private boolean renderPendingImages()
+	{
+		if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < IMAGES_PER_FRAME; ++i)
+		{
+			final PendingImage pending = pendingImages.poll();
+			if (pending == null)
+			{
+				break;
+			}
+
+			if (!renderImage(pending.getKey(), pending.getImage()))
+			{
+				log.debug("Unable to create sprite for item {}", pending.getKey().getItemId());
+			}
+		}
+
+		if (!pendingImages.isEmpty())
+		{
+			// run again next frame
+			return false;
+		}
+
+		renderingImages.set(false);
+		// an image may have been queued after the queue was seen empty, in which case
+		// keep running unless another batch has already been scheduled for it
+		return pendingImages.isEmpty() || renderingImages.getAndSet(true);
+	}
+
+	private boolean renderImage(ImageKey key, AsyncBufferedImage img)
+	{
+		SpritePixels sprite = client.createItemSprite(key.getItemId(), key.getItemQuantity(), 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+			key.isStackable() ? 1 : 0, false, CLIENT_DEFAULT_ZOOM);
+		if (sprite == null)
+		{
+			return false;
+		}
+		sprite.toBufferedImage(img);
+		img.changed();
+
+		final File file = getCachedImageFile(key);
+		if (file != null)
+		{
+			scheduledExecutorService.execute(() -> writeCachedImage(file, img));
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the file an item image is stored in in the on-disk icon cache.
+	 *
+	 * @return the file, or null if the image should not be stored on disk
+	 */
+	@Nullable
+	private File getCachedImageFile(ImageKey key)
+	{
+		final String revision = getCacheRevision();
+		if (revision == null)
+		{
+			return null;
+		}
+
+		final int quantity = getQuantityBucket(key.getItemQuantity(), key.isStackable());
+		if (quantity == -1)
+		{
+			return null;
+		}
+
+		if (!revision.equals(iconCacheRevision))
+		{
+			iconCacheRevision = revision;
+			scheduledExecutorService.execute(() -> deleteOldIconCaches(revision));
+		}
+
+		final File revisionDir = new File(ICON_CACHE_DIR, revision);
+		return new File(revisionDir, key.getItemId() + "_" + quantity + (key.isStackable() ? "_s" : "") + ".png");
+	}
+
+	/**
+	 * Gets the revision of the cache item sprites are rendered from. Sprites are built from item
+	 * definitions, models and the font sprites, so it changes whenever any of those indexes do.
+	 *
+	 * @return the revision, or null if the indexes have not been loaded yet
+	 */
+	@Nullable
+	private String getCacheRevision()
+	{
+		final IndexDataBase config = client.getIndexConfig();
+		final IndexDataBase models = client.getIndexModels();
+		final IndexDataBase sprites = client.getIndexSprites();
+		if (config == null || models == null || sprites == null)
+		{
+			return null;
+		}
+
+		return String.format("%08x%08x%08x", config.getCrc(), models.getCrc(), sprites.getCrc());
+	}
+
+	/**
+	 * Gets the quantity an item image is stored under on disk. Stackable items have their quantity
+	 * drawn on them, which from 100K on is shortened to thousands or millions, so every quantity
+	 * drawn the same way shares one image. Other stacks are not stored, as every distinct stack
+	 * size would need its own file.
+	 *
+	 * @return the quantity to store the image under, or -1 if it should not be stored on disk
+	 */
+	static int getQuantityBucket(int quantity, boolean stackable)
+	{
+		if (!stackable)
+		{
+			return quantity;
+		}
+
+		if (quantity >= 10_000_000)
+		{
+			return quantity - quantity % 1_000_000;
+		}
+
+		if (quantity >= 100_000)
+		{
+			return quantity - quantity % 1_000;
+		}
+
+		return quantity == 1 ? 1 : -1;
+	}
+
+	private static void deleteOldIconCaches(String revision)
+	{
+		final File[] dirs = ICON_CACHE_DIR.listFiles();
+		if (dirs == null)
+		{
+			return;
+		}
+
+		for (File dir : dirs)
+		{
+			if (dir.getName().equals(revision))
+			{
+				continue;
+			}
+
+			final File[] files = dir.listFiles();
+			if (files != null)
+			{
+				for (File file : files)
+				{
+					file.delete();
+				}
+			}
+
+			if (!dir.delete())
+			{
+				log.debug("unable to delete old icon cache {}", dir);
+			}
+		}
+	}
+
+	private boolean readCachedImage(ImageKey key, AsyncBufferedImage img)
+	{
+		final File file = getCachedImageFile(key);
+		if (file == null || !file.exists())
+		{
+			return false;
+		}
+
+		try
+		{
+			final BufferedImage cached = ImageIO.read(file);
+			if (cached == null)
+			{
+				return false;
+			}
+
+			final Graphics2D graphics = img.createGraphics();
+			graphics.drawImage(cached, 0, 0, null);
+			graphics.dispose();
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to read cached item image {}", file, e);
+			return false;
+		}
+
+		img.changed();
+		return true;
+	}
+
+	private static void writeCachedImage(File file, BufferedImage img)
+	{
+		final File dir = file.getParentFile();
+		dir.mkdirs();
+
+		// write to a temporary file first, so a partially written image is never read back
+		File tmp = null;
+		try
+		{
+			tmp = File.createTempFile(file.getName(), ".tmp", dir);
+			ImageIO.write(img, "png", tmp);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to write cached item image {}", file, e);
+			if (tmp != null)
+			{
+				tmp.delete();
+			}
+		}
+	}
+
 	/**
 	 * Get item sprite image as BufferedImage.
 	 * <p>
@@ -439,6 +809,28 @@ public class ItemManager
 		}
 	}
 
+	/**
+	 * Get the sprite images of many items at once, such as for a panel showing a list of items.
+	 * <p>
+	 * Like {@link #getImage(int, int, boolean)}, the images may be blank when returned and are
+	 * filled in later, but the images are read from disk and queued to be rendered as one batch
+	 * rather than one by one.
+	 *
+	 * @param keys the images to get
+	 * @return the images, by key
+	 */
+	public Map<ImageKey, AsyncBufferedImage> getImages(Collection<ImageKey> keys)
+	{
+		try
+		{
+			return itemImages.getAll(keys);
+		}
+		catch (ExecutionException ex)
+		{
+			return Collections.emptyMap();
+		}
+	}
+
 	/**
 	 * Create item sprite and applies an outline.
 	 *
@@ -251,6 +251,21 @@ public enum ItemMapping
 		return mapping;
 	}
 
+	/**
+	 * Get the highest item id which has a mapping
+	 *
+	 * @return the item id, or -1 if there are no mappings
+	 */
+	static int maxItemId()
+	{
+		int max = -1;
+		for (int itemId : MAPPINGS.keySet())
+		{
+			max = Math.max(max, itemId);
+		}
+		return max;
+	}
+
 	/**
 	 * Map an item from its untradeable version to its tradeable version
 	 *
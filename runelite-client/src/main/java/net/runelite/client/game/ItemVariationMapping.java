@@ -73,4 +73,19 @@ public class ItemVariationMapping
 	{
 		return MAPPINGS.getOrDefault(itemId, itemId);
 	}
+
+	/**
+	 * Get the highest item id which is a variation of another item.
+	 *
+	 * @return the item id, or -1 if there are no variations
+	 */
+	static int maxItemId()
+	{
+		int max = -1;
+		for (int itemId : MAPPINGS.keySet())
+		{
+			max = Math.max(max, itemId);
+		}
+		return max;
+	}
 }
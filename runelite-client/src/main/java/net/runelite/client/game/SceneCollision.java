@@ -0,0 +1,886 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import net.runelite.api.CollisionDataFlag;
+import static net.runelite.api.Constants.MAX_Z;
+import static net.runelite.api.Constants.SCENE_SIZE;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * An immutable snapshot of the collision flags of the loaded scene.
+ * <p>
+ * The flags of every plane are copied into a single flat array, and the directions a
+ * single tile entity can step in from each tile are precomputed into one byte per tile,
+ * so movement, line of sight and path finding queries do not have to go back to the
+ * client's collision maps for every tile they look at.
+ * <p>
+ * The movement and line of sight rules are the same as the ones used by
+ * {@link WorldArea#canTravelInDirection(net.runelite.api.Client, int, int)} and
+ * {@link net.runelite.api.Tile#hasLineOfSightTo(net.runelite.api.Tile)}.
+ */
+public class SceneCollision
+{
+	/**
+	 * The directions in the order the client's path finder visits them in:
+	 * west, east, south, north, south-west, south-east, north-west and north-east.
+	 */
+	private static final int[] DX = {-1, 1, 0, 0, -1, 1, -1, 1};
+	private static final int[] DY = {0, 0, -1, 1, -1, -1, 1, 1};
+
+	private static final int PLANE_SIZE = SCENE_SIZE * SCENE_SIZE;
+
+	@Getter
+	private final int baseX;
+
+	@Getter
+	private final int baseY;
+
+	// collision flags, indexed by plane, scene x and scene y
+	private final int[] flags;
+	// bit d is set if a 1x1 entity can step from the tile in direction d
+	private final byte[] moves;
+
+	// the last distance field computed towards a target, shared between callers
+	private volatile DistanceField lastDistancesTo;
+
+	/**
+	 * Creates a snapshot of the passed collision flags.
+	 *
+	 * @param flags collision flags indexed by plane, scene x and scene y. Planes
+	 *              which are null are treated as fully blocked.
+	 * @param baseX world x coordinate of the scene origin
+	 * @param baseY world y coordinate of the scene origin
+	 */
+	public SceneCollision(int[][][] flags, int baseX, int baseY)
+	{
+		this.baseX = baseX;
+		this.baseY = baseY;
+		this.flags = new int[MAX_Z * PLANE_SIZE];
+		this.moves = new byte[MAX_Z * PLANE_SIZE];
+
+		for (int z = 0; z < MAX_Z; ++z)
+		{
+			copyFlags(flags, z, 0, 0, SCENE_SIZE - 1, SCENE_SIZE - 1);
+		}
+
+		for (int z = 0; z < MAX_Z; ++z)
+		{
+			computeMoves(z, 0, 0, SCENE_SIZE - 1, SCENE_SIZE - 1);
+		}
+	}
+
+	private SceneCollision(SceneCollision other)
+	{
+		this.baseX = other.baseX;
+		this.baseY = other.baseY;
+		this.flags = other.flags.clone();
+		this.moves = other.moves.clone();
+	}
+
+	/**
+	 * Creates a snapshot which takes the collision flags of some areas again, such as
+	 * after a door was opened. Only the moves of the areas' tiles and of the tiles
+	 * around them are computed again, the rest is copied from this snapshot.
+	 * <p>
+	 * The tiles of the areas are taken again on every plane, as objects on bridges
+	 * change the collision flags of the plane below them.
+	 *
+	 * @param flags collision flags indexed by plane, scene x and scene y, as passed
+	 *              to {@link #SceneCollision(int[][][], int, int)}
+	 * @param areas the areas which collision changed
+	 * @return the updated snapshot
+	 */
+	public SceneCollision update(int[][][] flags, Collection<WorldArea> areas)
+	{
+		final SceneCollision updated = new SceneCollision(this);
+
+		for (WorldArea area : areas)
+		{
+			final int minX = Math.max(0, area.getX() - baseX);
+			final int minY = Math.max(0, area.getY() - baseY);
+			final int maxX = Math.min(SCENE_SIZE - 1, area.getX() - baseX + area.getWidth() - 1);
+			final int maxY = Math.min(SCENE_SIZE - 1, area.getY() - baseY + area.getHeight() - 1);
+			if (minX > maxX || minY > maxY)
+			{
+				continue;
+			}
+
+			for (int z = 0; z < MAX_Z; ++z)
+			{
+				updated.copyFlags(flags, z, minX, minY, maxX, maxY);
+			}
+		}
+
+		for (WorldArea area : areas)
+		{
+			// the moves of a tile depend on the flags of the tiles next to it
+			final int minX = Math.max(0, area.getX() - baseX - 1);
+			final int minY = Math.max(0, area.getY() - baseY - 1);
+			final int maxX = Math.min(SCENE_SIZE - 1, area.getX() - baseX + area.getWidth());
+			final int maxY = Math.min(SCENE_SIZE - 1, area.getY() - baseY + area.getHeight());
+			if (minX > maxX || minY > maxY)
+			{
+				continue;
+			}
+
+			for (int z = 0; z < MAX_Z; ++z)
+			{
+				updated.computeMoves(z, minX, minY, maxX, maxY);
+			}
+		}
+
+		return updated;
+	}
+
+	private void copyFlags(int[][][] flags, int z, int minX, int minY, int maxX, int maxY)
+	{
+		final int[][] planeFlags = z < flags.length ? flags[z] : null;
+		for (int x = minX; x <= maxX; ++x)
+		{
+			final int offset = index(z, x, minY);
+			if (planeFlags == null)
+			{
+				Arrays.fill(this.flags, offset, offset + maxY - minY + 1, CollisionDataFlag.BLOCK_MOVEMENT_FULL);
+			}
+			else
+			{
+				System.arraycopy(planeFlags[x], minY, this.flags, offset, maxY - minY + 1);
+			}
+		}
+	}
+
+	private void computeMoves(int z, int minX, int minY, int maxX, int maxY)
+	{
+		for (int x = minX; x <= maxX; ++x)
+		{
+			for (int y = minY; y <= maxY; ++y)
+			{
+				int tileMoves = 0;
+				for (int d = 0; d < DX.length; ++d)
+				{
+					if (canTravel(z, x, y, 1, 1, DX[d], DY[d], null))
+					{
+						tileMoves |= 1 << d;
+					}
+				}
+				moves[index(z, x, y)] = (byte) tileMoves;
+			}
+		}
+	}
+
+	/**
+	 * Determines if the area can travel in one of the 9 directions.
+	 * This is equivalent to {@link WorldArea#canTravelInDirection(net.runelite.api.Client, int, int)}.
+	 *
+	 * @param area the travelling area
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @return true if the area can travel in the specified direction
+	 */
+	public boolean canTravelInDirection(WorldArea area, int dx, int dy)
+	{
+		return canTravelInDirection(area, dx, dy, null);
+	}
+
+	/**
+	 * Determines if the area can travel in one of the 9 directions. This is equivalent to
+	 * {@link WorldArea#canTravelInDirection(net.runelite.api.Client, int, int, Predicate)}.
+	 *
+	 * @param area the travelling area
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @param extraCondition an additional condition to perform when checking valid tiles,
+	 *                       such as performing a check for un-passable actors, or null
+	 * @return true if the area can travel in the specified direction
+	 */
+	public boolean canTravelInDirection(WorldArea area, int dx, int dy,
+		@Nullable Predicate<? super WorldPoint> extraCondition)
+	{
+		final int x = area.getX() - baseX;
+		final int y = area.getY() - baseY;
+		final int plane = area.getPlane();
+		if (plane < 0 || plane >= MAX_Z || !inScene(x, y) || !inScene(x + area.getWidth() - 1, y + area.getHeight() - 1))
+		{
+			return false;
+		}
+
+		if (extraCondition == null && area.getWidth() == 1 && area.getHeight() == 1)
+		{
+			dx = Integer.signum(dx);
+			dy = Integer.signum(dy);
+			return (dx == 0 && dy == 0) || (moves[index(plane, x, y)] & (1 << direction(dx, dy))) != 0;
+		}
+
+		return canTravel(plane, x, y, area.getWidth(), area.getHeight(), dx, dy, extraCondition);
+	}
+
+	private boolean canTravel(int plane, int x, int y, int width, int height, int dx, int dy,
+		@Nullable Predicate<? super WorldPoint> extraCondition)
+	{
+		dx = Integer.signum(dx);
+		dy = Integer.signum(dy);
+
+		if (dx == 0 && dy == 0)
+		{
+			return true;
+		}
+
+		final int startX = x + dx;
+		final int startY = y + dy;
+		final int checkX = startX + (dx > 0 ? width - 1 : 0);
+		final int checkY = startY + (dy > 0 ? height - 1 : 0);
+		final int endX = startX + width - 1;
+		final int endY = startY + height - 1;
+
+		if (!inScene(startX, startY) || !inScene(endX, endY))
+		{
+			// collision data isn't available outside of the scene
+			return false;
+		}
+
+		int xFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xyFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xWallFlagsSouth = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xWallFlagsNorth = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yWallFlagsWest = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yWallFlagsEast = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+
+		if (dx < 0)
+		{
+			xFlags |= CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+			xWallFlagsSouth |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+			xWallFlagsNorth |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dx > 0)
+		{
+			xFlags |= CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+			xWallFlagsSouth |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+			xWallFlagsNorth |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+		}
+		if (dy < 0)
+		{
+			yFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH;
+			yWallFlagsWest |= CollisionDataFlag.BLOCK_MOVEMENT_WEST |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+			yWallFlagsEast |= CollisionDataFlag.BLOCK_MOVEMENT_EAST |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dy > 0)
+		{
+			yFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH;
+			yWallFlagsWest |= CollisionDataFlag.BLOCK_MOVEMENT_WEST |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+			yWallFlagsEast |= CollisionDataFlag.BLOCK_MOVEMENT_EAST |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+		}
+		if (dx < 0 && dy < 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dx < 0 && dy > 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+		}
+		if (dx > 0 && dy < 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+		}
+		if (dx > 0 && dy > 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+		}
+
+		if (dx != 0)
+		{
+			// Check that the area doesn't bypass a wall
+			for (int ty = startY; ty <= endY; ty++)
+			{
+				if ((flag(plane, checkX, ty) & xFlags) != 0 ||
+					(extraCondition != null && !extraCondition.test(toWorld(checkX, ty, plane))))
+				{
+					return false;
+				}
+			}
+
+			// Check that the new area tiles don't contain a wall
+			for (int ty = startY + 1; ty <= endY; ty++)
+			{
+				if ((flag(plane, checkX, ty) & xWallFlagsSouth) != 0)
+				{
+					return false;
+				}
+			}
+			for (int ty = endY - 1; ty >= startY; ty--)
+			{
+				if ((flag(plane, checkX, ty) & xWallFlagsNorth) != 0)
+				{
+					return false;
+				}
+			}
+		}
+		if (dy != 0)
+		{
+			// Check that the area tiles don't bypass a wall
+			for (int tx = startX; tx <= endX; tx++)
+			{
+				if ((flag(plane, tx, checkY) & yFlags) != 0 ||
+					(extraCondition != null && !extraCondition.test(toWorld(tx, checkY, plane))))
+				{
+					return false;
+				}
+			}
+
+			// Check that the new area tiles don't contain a wall
+			for (int tx = startX + 1; tx <= endX; tx++)
+			{
+				if ((flag(plane, tx, checkY) & yWallFlagsWest) != 0)
+				{
+					return false;
+				}
+			}
+			for (int tx = endX - 1; tx >= startX; tx--)
+			{
+				if ((flag(plane, tx, checkY) & yWallFlagsEast) != 0)
+				{
+					return false;
+				}
+			}
+		}
+		if (dx != 0 && dy != 0)
+		{
+			if ((flag(plane, checkX, checkY) & xyFlags) != 0 ||
+				(extraCondition != null && !extraCondition.test(toWorld(checkX, checkY, plane))))
+			{
+				return false;
+			}
+
+			// When the areas edge size is 1 and it attempts to travel
+			// diagonally, a collision check is done for respective
+			// x and y axis as well.
+			if (width == 1)
+			{
+				if ((flag(plane, checkX, checkY - dy) & xFlags) != 0 &&
+					(extraCondition == null || extraCondition.test(toWorld(checkX, startY, plane))))
+				{
+					return false;
+				}
+			}
+			if (height == 1)
+			{
+				if ((flag(plane, checkX - dx, checkY) & yFlags) != 0 &&
+					(extraCondition == null || extraCondition.test(toWorld(startX, checkY, plane))))
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Calculates the next area that will be occupied if the area attempts to move toward
+	 * the target by using the normal NPC travelling pattern. This is equivalent to
+	 * {@link WorldArea#calculateNextTravellingPoint(net.runelite.api.Client, WorldArea, boolean, Predicate)}.
+	 *
+	 * @param area the travelling area
+	 * @param target the target area
+	 * @param stopAtMeleeDistance whether to stop at melee distance to the target
+	 * @param extraCondition an additional condition to perform when checking valid tiles,
+	 *                       such as performing a check for un-passable actors, or null
+	 * @return the next occupied area, or null if it can't be predicted
+	 */
+	@Nullable
+	public WorldArea calculateNextTravellingPoint(WorldArea area, WorldArea target,
+		boolean stopAtMeleeDistance, @Nullable Predicate<? super WorldPoint> extraCondition)
+	{
+		if (area.getPlane() != target.getPlane())
+		{
+			return null;
+		}
+
+		final int axisX = axisDistance(area.getX(), area.getWidth(), target.getX(), target.getWidth());
+		final int axisY = axisDistance(area.getY(), area.getHeight(), target.getY(), target.getHeight());
+
+		if (axisX + axisY == 0)
+		{
+			// Movement is unpredictable when the NPC and actor stand on top of each other
+			return stopAtMeleeDistance ? null : area;
+		}
+
+		if (stopAtMeleeDistance && axisX + axisY == 1)
+		{
+			// NPC is in melee distance of target, so no movement is done
+			return area;
+		}
+
+		final int x = area.getX() - baseX;
+		final int y = area.getY() - baseY;
+		if (!inScene(x, y))
+		{
+			// collision data isn't available
+			return null;
+		}
+
+		final int dx = target.getX() - area.getX();
+		final int dy = target.getY() - area.getY();
+		final int dxSig = Integer.signum(dx);
+		final int dySig = Integer.signum(dy);
+		if (stopAtMeleeDistance && axisX == 1 && axisY == 1)
+		{
+			// When it needs to stop at melee distance, it will only attempt
+			// to travel along the x axis when it is standing diagonally
+			// from the target
+			if (canTravelInDirection(area, dxSig, 0, extraCondition))
+			{
+				return translate(area, dxSig, 0);
+			}
+		}
+		else
+		{
+			if (canTravelInDirection(area, dxSig, dySig, extraCondition))
+			{
+				return translate(area, dxSig, dySig);
+			}
+			else if (dx != 0 && canTravelInDirection(area, dxSig, 0, extraCondition))
+			{
+				return translate(area, dxSig, 0);
+			}
+			else if (dy != 0 && Math.max(Math.abs(dx), Math.abs(dy)) > 1 &&
+				canTravelInDirection(area, 0, dy, extraCondition))
+			{
+				// Note that NPCs don't attempts to travel along the y-axis
+				// if the target is <= 1 tile distance away
+				return translate(area, 0, dySig);
+			}
+		}
+
+		// The NPC is stuck
+		return area;
+	}
+
+	/**
+	 * Determine if an area has line of sight to another area. This is equivalent to
+	 * {@link WorldArea#hasLineOfSightTo(net.runelite.api.Client, WorldArea)}.
+	 *
+	 * @param area the source area
+	 * @param other the other area
+	 * @return true if the source area has line of sight to the other
+	 */
+	public boolean hasLineOfSightTo(WorldArea area, WorldArea other)
+	{
+		if (area.getPlane() != other.getPlane() || area.getPlane() < 0 || area.getPlane() >= MAX_Z)
+		{
+			return false;
+		}
+
+		final int thisX = area.getX() - baseX;
+		final int thisY = area.getY() - baseY;
+		final int otherX = other.getX() - baseX;
+		final int otherY = other.getY() - baseY;
+
+		// Compare the closest positions of both areas
+		final int x1 = clamp(otherX, thisX, area.getWidth());
+		final int y1 = clamp(otherY, thisY, area.getHeight());
+		final int x2 = clamp(thisX, otherX, other.getWidth());
+		final int y2 = clamp(thisY, otherY, other.getHeight());
+
+		if (!inScene(x1, y1) || !inScene(x2, y2))
+		{
+			return false;
+		}
+
+		return hasLineOfSight(area.getPlane(), x1, y1, x2, y2);
+	}
+
+	private boolean hasLineOfSight(int plane, int x1, int y1, int x2, int y2)
+	{
+		if (x1 == x2 && y1 == y2)
+		{
+			return true;
+		}
+
+		final int dx = x2 - x1;
+		final int dy = y2 - y1;
+		final int dxAbs = Math.abs(dx);
+		final int dyAbs = Math.abs(dy);
+
+		final int xFlags = CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL |
+			(dx < 0 ? CollisionDataFlag.BLOCK_LINE_OF_SIGHT_EAST : CollisionDataFlag.BLOCK_LINE_OF_SIGHT_WEST);
+		final int yFlags = CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL |
+			(dy < 0 ? CollisionDataFlag.BLOCK_LINE_OF_SIGHT_NORTH : CollisionDataFlag.BLOCK_LINE_OF_SIGHT_SOUTH);
+
+		if (dxAbs > dyAbs)
+		{
+			int x = x1;
+			int yBig = (y1 << 16) + 0x8000; // The y position is represented as a bigger number to handle rounding
+			final int slope = (dy << 16) / dxAbs;
+			if (dy < 0)
+			{
+				yBig--; // For correct rounding
+			}
+			final int direction = dx < 0 ? -1 : 1;
+
+			while (x != x2)
+			{
+				x += direction;
+				final int y = yBig >>> 16;
+				if ((flag(plane, x, y) & xFlags) != 0)
+				{
+					return false;
+				}
+				yBig += slope;
+				final int nextY = yBig >>> 16;
+				if (nextY != y && (flag(plane, x, nextY) & yFlags) != 0)
+				{
+					return false;
+				}
+			}
+		}
+		else
+		{
+			int y = y1;
+			int xBig = (x1 << 16) + 0x8000; // The x position is represented as a bigger number to handle rounding
+			final int slope = (dx << 16) / dyAbs;
+			if (dx < 0)
+			{
+				xBig--; // For correct rounding
+			}
+			final int direction = dy < 0 ? -1 : 1;
+
+			while (y != y2)
+			{
+				y += direction;
+				final int x = xBig >>> 16;
+				if ((flag(plane, x, y) & yFlags) != 0)
+				{
+					return false;
+				}
+				xBig += slope;
+				final int nextX = xBig >>> 16;
+				if (nextX != x && (flag(plane, nextX, y) & xFlags) != 0)
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Computes the walking distance from a tile to every other tile on its plane,
+	 * for an entity of size 1.
+	 *
+	 * @param source the tile to walk from
+	 * @return the distance field, or null if the source is not in the scene
+	 */
+	@Nullable
+	public DistanceField distancesFrom(WorldPoint source)
+	{
+		return search(source, null, false);
+	}
+
+	/**
+	 * Computes the walking distance from every tile on the target's plane to the
+	 * target, for an entity of size 1.
+	 * <p>
+	 * The most recent result is kept, so callers asking for paths to the same
+	 * target during a tick share a single search.
+	 *
+	 * @param target the tile to walk to
+	 * @return the distance field, or null if the target is not in the scene
+	 */
+	@Nullable
+	public DistanceField distancesTo(WorldPoint target)
+	{
+		DistanceField field = lastDistancesTo;
+		if (field != null && field.origin.equals(target))
+		{
+			return field;
+		}
+
+		field = search(target, null, true);
+		if (field != null)
+		{
+			lastDistancesTo = field;
+		}
+		return field;
+	}
+
+	/**
+	 * Checks if an entity of size 1 can walk from one tile to another.
+	 *
+	 * @param from the tile to walk from
+	 * @param to the tile to walk to
+	 * @return true if there is a path between the tiles
+	 */
+	public boolean isReachable(WorldPoint from, WorldPoint to)
+	{
+		if (from.getPlane() != to.getPlane() || !contains(to))
+		{
+			return false;
+		}
+
+		final DistanceField cached = lastDistancesTo;
+		if (cached != null && cached.origin.equals(to))
+		{
+			return cached.getDistance(from) >= 0;
+		}
+
+		final DistanceField field = search(from, to, false);
+		return field != null && field.getDistance(to) >= 0;
+	}
+
+	/**
+	 * Gets the first tile of a shortest path from one tile to another, for an entity of size 1.
+	 *
+	 * @param from the tile to walk from
+	 * @param to the tile to walk to
+	 * @return the next tile to step on, {@code from} if it is already at the target,
+	 * or null if the target can't be reached
+	 */
+	@Nullable
+	public WorldPoint getNextStep(WorldPoint from, WorldPoint to)
+	{
+		if (from.getPlane() != to.getPlane() || !contains(from))
+		{
+			return null;
+		}
+
+		final DistanceField field = distancesTo(to);
+		if (field == null)
+		{
+			return null;
+		}
+
+		final int distance = field.getDistance(from);
+		if (distance <= 0)
+		{
+			return distance == 0 ? from : null;
+		}
+
+		final int plane = from.getPlane();
+		final int x = from.getX() - baseX;
+		final int y = from.getY() - baseY;
+		final int tileMoves = moves[index(plane, x, y)];
+		for (int d = 0; d < DX.length; ++d)
+		{
+			if ((tileMoves & (1 << d)) != 0 && field.distances[index(0, x + DX[d], y + DY[d])] == distance - 1)
+			{
+				return new WorldPoint(from.getX() + DX[d], from.getY() + DY[d], plane);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Checks if the tile is inside of this scene.
+	 *
+	 * @param point the tile
+	 * @return true if collision data is available for the tile
+	 */
+	public boolean contains(WorldPoint point)
+	{
+		return point.getPlane() >= 0 && point.getPlane() < MAX_Z
+			&& inScene(point.getX() - baseX, point.getY() - baseY);
+	}
+
+	/**
+	 * Breadth first search over the tiles of the origin's plane.
+	 *
+	 * @param origin the tile to start from
+	 * @param stop a tile to stop the search at, or null to visit every reachable tile
+	 * @param reverse whether to follow the moves backwards, to compute distances to the origin
+	 */
+	@Nullable
+	private DistanceField search(WorldPoint origin, @Nullable WorldPoint stop, boolean reverse)
+	{
+		if (!contains(origin))
+		{
+			return null;
+		}
+
+		final int plane = origin.getPlane();
+		final int planeOffset = index(plane, 0, 0);
+		final int start = index(0, origin.getX() - baseX, origin.getY() - baseY);
+		final int end = stop != null && contains(stop) ? index(0, stop.getX() - baseX, stop.getY() - baseY) : -1;
+
+		final int[] distances = new int[PLANE_SIZE];
+		Arrays.fill(distances, -1);
+		final int[] queue = new int[PLANE_SIZE];
+		int head = 0;
+		int tail = 0;
+
+		distances[start] = 0;
+		queue[tail++] = start;
+
+		while (head < tail)
+		{
+			final int current = queue[head++];
+			if (current == end)
+			{
+				break;
+			}
+
+			final int x = current / SCENE_SIZE;
+			final int y = current % SCENE_SIZE;
+			final int distance = distances[current] + 1;
+			for (int d = 0; d < DX.length; ++d)
+			{
+				final int nextX;
+				final int nextY;
+				final boolean canMove;
+				if (reverse)
+				{
+					// the neighbour has to be able to step onto the current tile
+					nextX = x - DX[d];
+					nextY = y - DY[d];
+					canMove = inScene(nextX, nextY) && (moves[planeOffset + index(0, nextX, nextY)] & (1 << d)) != 0;
+				}
+				else
+				{
+					nextX = x + DX[d];
+					nextY = y + DY[d];
+					canMove = (moves[planeOffset + current] & (1 << d)) != 0;
+				}
+
+				if (!canMove)
+				{
+					continue;
+				}
+
+				final int next = index(0, nextX, nextY);
+				if (distances[next] == -1)
+				{
+					distances[next] = distance;
+					queue[tail++] = next;
+				}
+			}
+		}
+
+		return new DistanceField(origin, baseX, baseY, distances);
+	}
+
+	private WorldPoint toWorld(int x, int y, int plane)
+	{
+		return new WorldPoint(x + baseX, y + baseY, plane);
+	}
+
+	private int flag(int plane, int x, int y)
+	{
+		return flags[index(plane, x, y)];
+	}
+
+	private static int index(int plane, int x, int y)
+	{
+		return (plane * SCENE_SIZE + x) * SCENE_SIZE + y;
+	}
+
+	private static boolean inScene(int x, int y)
+	{
+		return x >= 0 && y >= 0 && x < SCENE_SIZE && y < SCENE_SIZE;
+	}
+
+	private static int direction(int dx, int dy)
+	{
+		for (int d = 0; d < DX.length; ++d)
+		{
+			if (DX[d] == dx && DY[d] == dy)
+			{
+				return d;
+			}
+		}
+		throw new IllegalArgumentException();
+	}
+
+	private static WorldArea translate(WorldArea area, int dx, int dy)
+	{
+		return new WorldArea(area.getX() + dx, area.getY() + dy, area.getWidth(), area.getHeight(), area.getPlane());
+	}
+
+	/**
+	 * Clamps a position to the span [start, start + size - 1].
+	 */
+	private static int clamp(int position, int start, int size)
+	{
+		return Math.max(start, Math.min(position, start + size - 1));
+	}
+
+	private static int axisDistance(int start, int size, int otherStart, int otherSize)
+	{
+		return Math.abs(clamp(otherStart, start, size) - clamp(start, otherStart, otherSize));
+	}
+
+	/**
+	 * Walking distances between one tile and every tile on its plane.
+	 */
+	public static final class DistanceField
+	{
+		@Getter
+		private final WorldPoint origin;
+		private final int baseX;
+		private final int baseY;
+		private final int[] distances;
+
+		private DistanceField(WorldPoint origin, int baseX, int baseY, int[] distances)
+		{
+			this.origin = origin;
+			this.baseX = baseX;
+			this.baseY = baseY;
+			this.distances = distances;
+		}
+
+		/**
+		 * Gets the walking distance between the origin and a tile.
+		 *
+		 * @param point the tile
+		 * @return the number of steps, or -1 if the tile can't be reached
+		 */
+		public int getDistance(WorldPoint point)
+		{
+			final int x = point.getX() - baseX;
+			final int y = point.getY() - baseY;
+			if (point.getPlane() != origin.getPlane() || !inScene(x, y))
+			{
+				return -1;
+			}
+			return distances[index(0, x, y)];
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Polygon;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
+import net.runelite.api.Perspective;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static net.runelite.api.Perspective.SINE;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Caches the canvas projections of scene tile corners, so overlays marking many tiles
+ * do not each have to redo the height interpolation and camera projection for the
+ * same tiles every frame.
+ * <p>
+ * Projections are invalidated whenever the camera, viewport or scene changes. Tile
+ * corners are shared between adjacent tiles, so every corner is projected at most
+ * once per camera position.
+ */
+@Singleton
+public class TileProjectionCache
+{
+	private static final int CORNERS = SCENE_SIZE + 1;
+	private static final int INVALID = Integer.MIN_VALUE;
+
+	private final Client client;
+
+	private final int[] cornerX = new int[Constants.MAX_Z * CORNERS * CORNERS];
+	private final int[] cornerY = new int[Constants.MAX_Z * CORNERS * CORNERS];
+	// the generation each corner was projected in
+	private final int[] cornerGeneration = new int[Constants.MAX_Z * CORNERS * CORNERS];
+	private int generation = 1;
+
+	// state the current generation of projections was computed with
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int cameraPitch;
+	private int cameraYaw;
+	private int scale;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int viewportXOffset;
+	private int viewportYOffset;
+	private int baseX;
+	private int baseY;
+
+	@Inject
+	private TileProjectionCache(Client client)
+	{
+		this.client = client;
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING)
+		{
+			// tile heights are about to change
+			++generation;
+		}
+	}
+
+	/**
+	 * Get the canvas polygon of a tile. This is equivalent to
+	 * {@link Perspective#getCanvasTilePoly(Client, LocalPoint)}, but the tile
+	 * corners are only projected once per camera position.
+	 *
+	 * @param localLocation local location of the tile
+	 * @return the tile polygon, or null if the tile is not on screen
+	 */
+	@Nullable
+	public Polygon getCanvasTilePoly(LocalPoint localLocation)
+	{
+		final int half = LOCAL_TILE_SIZE / 2;
+		if ((localLocation.getX() & (LOCAL_TILE_SIZE - 1)) != half || (localLocation.getY() & (LOCAL_TILE_SIZE - 1)) != half)
+		{
+			// only the centers of tiles can use the cached corners
+			return Perspective.getCanvasTilePoly(client, localLocation);
+		}
+
+		final int sceneX = localLocation.getSceneX();
+		final int sceneY = localLocation.getSceneY();
+
+		if (sceneX < 0 || sceneY < 0 || sceneX >= SCENE_SIZE || sceneY >= SCENE_SIZE)
+		{
+			return null;
+		}
+
+		validate();
+
+		final int plane = client.getPlane();
+		int tilePlane = plane;
+		if (plane < Constants.MAX_Z - 1 && (client.getTileSettings()[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+		{
+			tilePlane = plane + 1;
+		}
+
+		final int sw = project(tilePlane, sceneX, sceneY);
+		final int nw = project(tilePlane, sceneX + 1, sceneY);
+		final int ne = project(tilePlane, sceneX + 1, sceneY + 1);
+		final int se = project(tilePlane, sceneX, sceneY + 1);
+
+		if (cornerX[sw] == INVALID || cornerX[nw] == INVALID || cornerX[ne] == INVALID || cornerX[se] == INVALID)
+		{
+			return null;
+		}
+
+		return new Polygon(
+			new int[]{cornerX[sw], cornerX[nw], cornerX[ne], cornerX[se]},
+			new int[]{cornerY[sw], cornerY[nw], cornerY[ne], cornerY[se]},
+			4);
+	}
+
+	/**
+	 * Starts a new generation of projections if the camera, viewport or scene has
+	 * changed since the last one
+	 */
+	private void validate()
+	{
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		final int scale = client.getScale();
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+		final int viewportXOffset = client.getViewportXOffset();
+		final int viewportYOffset = client.getViewportYOffset();
+		final int baseX = client.getBaseX();
+		final int baseY = client.getBaseY();
+
+		if (cameraX == this.cameraX && cameraY == this.cameraY && cameraZ == this.cameraZ
+			&& cameraPitch == this.cameraPitch && cameraYaw == this.cameraYaw && scale == this.scale
+			&& viewportWidth == this.viewportWidth && viewportHeight == this.viewportHeight
+			&& viewportXOffset == this.viewportXOffset && viewportYOffset == this.viewportYOffset
+			&& baseX == this.baseX && baseY == this.baseY)
+		{
+			return;
+		}
+
+		this.cameraX = cameraX;
+		this.cameraY = cameraY;
+		this.cameraZ = cameraZ;
+		this.cameraPitch = cameraPitch;
+		this.cameraYaw = cameraYaw;
+		this.scale = scale;
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+		this.viewportXOffset = viewportXOffset;
+		this.viewportYOffset = viewportYOffset;
+		this.baseX = baseX;
+		this.baseY = baseY;
+		++generation;
+	}
+
+	/**
+	 * Projects a tile corner if it has not been projected in the current generation
+	 *
+	 * @return the index of the corner
+	 */
+	private int project(int plane, int x, int y)
+	{
+		final int index = (plane * CORNERS + x) * CORNERS + y;
+		if (cornerGeneration[index] == generation)
+		{
+			return index;
+		}
+
+		cornerGeneration[index] = generation;
+
+		int localX = x << LOCAL_COORD_BITS;
+		int localY = y << LOCAL_COORD_BITS;
+
+		if (localX < 128 || localY < 128 || localX > 13056 || localY > 13056)
+		{
+			cornerX[index] = INVALID;
+			return index;
+		}
+
+		// Perspective only interpolates heights within the scene
+		int height = x < SCENE_SIZE && y < SCENE_SIZE ? client.getTileHeights()[plane][x][y] : 0;
+
+		localX -= cameraX;
+		localY -= cameraY;
+		height -= cameraZ;
+
+		final int pitchSin = SINE[cameraPitch];
+		final int pitchCos = COSINE[cameraPitch];
+		final int yawSin = SINE[cameraYaw];
+		final int yawCos = COSINE[cameraYaw];
+
+		int var8 = yawCos * localX + localY * yawSin >> 16;
+		localY = yawCos * localY - yawSin * localX >> 16;
+		localX = var8;
+		var8 = pitchCos * height - localY * pitchSin >> 16;
+		localY = height * pitchSin + localY * pitchCos >> 16;
+
+		if (localY < 50)
+		{
+			cornerX[index] = INVALID;
+			return index;
+		}
+
+		cornerX[index] = viewportWidth / 2 + localX * scale / localY + viewportXOffset;
+		cornerY[index] = viewportHeight / 2 + var8 * scale / localY + viewportYOffset;
+		return index;
+	}
+}
@@ -25,12 +25,14 @@
 package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
+import com.google.common.io.Resources;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
 import com.google.inject.Binder;
@@ -41,14 +43,20 @@ import com.google.inject.Module;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -200,11 +208,17 @@ public class PluginManager
 	public void startCorePlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
+		Map<String, Long> startupTimes = new LinkedHashMap<>();
+		Stopwatch total = Stopwatch.createStarted();
 		for (Plugin plugin : scannedPlugins)
 		{
+			Stopwatch stopwatch = Stopwatch.createStarted();
 			try
 			{
-				startPlugin(plugin);
+				if (startPlugin(plugin))
+				{
+					startupTimes.put(plugin.getClass().getSimpleName(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+				}
 			}
 			catch (PluginInstantiationException ex)
 			{
@@ -212,6 +226,54 @@ public class PluginManager
 				plugins.remove(plugin);
 			}
 		}
+
+		log.debug("Started {} plugins in {}ms", startupTimes.size(), total.elapsed(TimeUnit.MILLISECONDS));
+		startupTimes.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+			.forEach(e -> log.debug("Plugin {} started in {}ms", e.getKey(), e.getValue()));
+	}
+
+	/**
+	 * Finds the candidate plugin classes in the given package, or in every package if it is null.
+	 * The classes are read from the index written by {@link PluginIndexProcessor} at build time,
+	 * the class path is only scanned when the class loader has no index.
+	 */
+	private static List<Class<?>> findPluginClasses(ClassLoader classLoader, String packageName) throws IOException
+	{
+		List<Class<?>> classes = new ArrayList<>();
+		URL index = classLoader.getResource(PluginIndexProcessor.INDEX_RESOURCE);
+		if (index == null)
+		{
+			log.debug("No plugin index found, scanning the class path");
+
+			ClassPath classPath = ClassPath.from(classLoader);
+			ImmutableSet<ClassInfo> classInfos = packageName == null ? classPath.getAllClasses()
+				: classPath.getTopLevelClassesRecursive(packageName);
+			for (ClassInfo classInfo : classInfos)
+			{
+				classes.add(classInfo.load());
+			}
+			return classes;
+		}
+
+		List<String> classNames = Resources.readLines(index, StandardCharsets.UTF_8);
+		for (String className : classNames)
+		{
+			if (className.isEmpty() || (packageName != null && !className.startsWith(packageName + ".")))
+			{
+				continue;
+			}
+
+			try
+			{
+				classes.add(classLoader.loadClass(className));
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Plugin {} is in the plugin index, but could not be loaded", className, ex);
+			}
+		}
+		return classes;
 	}
 
 	List<Plugin> scanAndInstantiate(ClassLoader classLoader, String packageName) throws IOException
@@ -221,13 +283,8 @@ public class PluginManager
 			.build();
 
 		List<Plugin> scannedPlugins = new ArrayList<>();
-		ClassPath classPath = ClassPath.from(classLoader);
-
-		ImmutableSet<ClassInfo> classes = packageName == null ? classPath.getAllClasses()
-			: classPath.getTopLevelClassesRecursive(packageName);
-		for (ClassInfo classInfo : classes)
+		for (Class<?> clazz : findPluginClasses(classLoader, packageName))
 		{
-			Class<?> clazz = classInfo.load();
 			PluginDescriptor pluginDescriptor = clazz.getAnnotation(PluginDescriptor.class);
 
 			if (pluginDescriptor == null)
@@ -49,6 +49,7 @@ class LapCounterOverlay extends Overlay
 	private LapCounterOverlay(AgilityPlugin plugin, AgilityConfig config)
 	{
 		super(plugin);
+		panelComponent.setCached(true);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.LOW);
 		this.plugin = plugin;
@@ -46,6 +46,7 @@ class AttackStylesOverlay extends Overlay
 	private AttackStylesOverlay(AttackStylesPlugin plugin, AttackStylesConfig config)
 	{
 		super(plugin);
+		panelComponent.setCached(true);
 		setPosition(OverlayPosition.ABOVE_CHATBOX_RIGHT);
 		this.plugin = plugin;
 		this.config = config;
@@ -61,6 +61,7 @@ class CookingOverlay extends Overlay
 	private CookingOverlay(Client client, CookingPlugin plugin, CookingConfig config, XpTrackerService xpTrackerService)
 	{
 		super(plugin);
+		panelComponent.setCached(true);
 		setPosition(OverlayPosition.TOP_LEFT);
 		this.client = client;
 		this.plugin = plugin;
@@ -55,6 +55,8 @@ import net.runelite.api.events.PlayerSpawned;
 import net.runelite.api.events.ProjectileMoved;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.CollisionManager;
+import net.runelite.client.game.SceneCollision;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -78,6 +80,9 @@ public class DemonicGorillaPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private CollisionManager collisionManager;
+
 	@Getter
 	private Map<NPC, DemonicGorilla> gorillas;
 
@@ -283,6 +288,7 @@ public class DemonicGorillaPlugin extends Plugin
 	private void checkGorillaAttacks()
 	{
 		int tickCounter = client.getTickCount();
+		final SceneCollision collision = collisionManager.getSceneCollision();
 		for (DemonicGorilla gorilla : gorillas.values())
 		{
 			Player interacting = (Player)gorilla.getNpc().getInteracting();
@@ -417,10 +423,10 @@ public class DemonicGorillaPlugin extends Plugin
 				// because otherwise it attempts to travel to melee
 				// distance before attacking its target.
 
-				if (mp != null && mp.getLastWorldArea() != null && gorilla.getLastWorldArea() != null)
+				if (collision != null && mp != null && mp.getLastWorldArea() != null && gorilla.getLastWorldArea() != null)
 				{
-					WorldArea predictedNewArea = gorilla.getLastWorldArea().calculateNextTravellingPoint(
-						client, mp.getLastWorldArea(), true, x ->
+					WorldArea predictedNewArea = collision.calculateNextTravellingPoint(
+						gorilla.getLastWorldArea(), mp.getLastWorldArea(), true, x ->
 						{
 							// Gorillas can't normally walk through other gorillas
 							// or other players
@@ -455,7 +461,7 @@ public class DemonicGorillaPlugin extends Plugin
 						WorldPoint predictedMovement = predictedNewArea.toWorldPoint();
 						if (distance <= DemonicGorilla.MAX_ATTACK_RANGE &&
 							mp != null &&
-							mp.getLastWorldArea().hasLineOfSightTo(client, gorilla.getLastWorldArea()))
+							collision.hasLineOfSightTo(mp.getLastWorldArea(), gorilla.getLastWorldArea()))
 						{
 							if (predictedMovement.distanceTo(gorilla.getLastWorldArea().toWorldPoint()) != 0)
 							{
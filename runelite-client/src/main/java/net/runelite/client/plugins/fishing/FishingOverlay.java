@@ -55,6 +55,7 @@ class FishingOverlay extends Overlay
 	public FishingOverlay(Client client, FishingPlugin plugin, FishingConfig config, XpTrackerService xpTrackerService)
 	{
 		super(plugin);
+		panelComponent.setCached(true);
 		setPosition(OverlayPosition.TOP_LEFT);
 		this.client = client;
 		this.plugin = plugin;
@@ -24,8 +24,10 @@
  */
 package net.runelite.client.plugins.grounditems;
 
+import java.awt.Color;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Value;
 import net.runelite.api.coords.WorldPoint;
 
@@ -41,9 +43,18 @@ class GroundItem
 	private int height;
 	private int haPrice;
 	private int gePrice;
-	private int offset;
 	private boolean tradeable;
 	private boolean isMine;
+	/**
+	 * Highlight color of the item, updated by the plugin as the item or config changes
+	 */
+	@EqualsAndHashCode.Exclude
+	private Color highlighted;
+	/**
+	 * Hidden color of the item, updated by the plugin as the item or config changes
+	 */
+	@EqualsAndHashCode.Exclude
+	private Color hidden;
 
 	int getHaPrice()
 	{
@@ -32,9 +32,7 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -43,6 +41,7 @@ import net.runelite.api.Player;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.game.TileProjectionCache;
 import static net.runelite.client.plugins.grounditems.config.ItemHighlightMode.MENU;
 import net.runelite.client.plugins.grounditems.config.PriceDisplayMode;
 import net.runelite.client.ui.overlay.Overlay;
@@ -66,23 +65,26 @@ public class GroundItemsOverlay extends Overlay
 	private static final int STRING_GAP = 15;
 	// Size of the hidden/highlight boxes
 	private static final int RECTANGLE_SIZE = 8;
+	// How far outside of the viewport, in pixels, a tile can be while its items may still be visible
+	private static final int VIEWPORT_MARGIN = 256;
 
 	private final Client client;
 	private final GroundItemsPlugin plugin;
 	private final GroundItemsConfig config;
+	private final TileProjectionCache tileProjectionCache;
 	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
 	private final TextComponent textComponent = new TextComponent();
-	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
 
 	@Inject
-	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
+	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config, TileProjectionCache tileProjectionCache)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
+		this.tileProjectionCache = tileProjectionCache;
 	}
 
 	@Override
@@ -103,243 +105,289 @@ public class GroundItemsOverlay extends Overlay
 			return null;
 		}
 
-		offsetMap.clear();
 		final LocalPoint localLocation = player.getLocalLocation();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
-		GroundItem topGroundItem = null;
+		final boolean hotKeyPressed = plugin.isHotKeyPressed();
+		final GroundItem topGroundItem = hotKeyPressed ? getTopGroundItem(mousePos) : null;
+		LocalPoint topGroundPoint = null;
+		int topOffset = 0;
 
-		if (plugin.isHotKeyPressed())
+		plugin.setTextBoxBounds(null);
+		plugin.setHiddenBoxBounds(null);
+		plugin.setHighlightBoxBounds(null);
+
+		for (Map.Entry<WorldPoint, List<GroundItem>> entry : plugin.getGroundItemsByTile().entrySet())
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
-			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
-			GroundItem groundItem = null;
+			final LocalPoint groundPoint = LocalPoint.fromWorld(client, entry.getKey());
 
-			for (GroundItem item : groundItemList)
+			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE)
 			{
-				item.setOffset(offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0));
+				continue;
+			}
 
-				if (groundItem != null)
-				{
-					continue;
-				}
+			final List<GroundItem> items = entry.getValue();
+
+			if (!isInViewport(groundPoint, items.size()))
+			{
+				continue;
+			}
+
+			int offset = 0;
+			for (int i = 0; i < items.size(); i++)
+			{
+				final GroundItem item = items.get(i);
 
-				if (plugin.getTextBoxBounds() != null
-					&& item.equals(plugin.getTextBoxBounds().getValue())
-					&& plugin.getTextBoxBounds().getKey().contains(awtMousePos))
+				// With the hotkey pressed every item keeps its place in the stack,
+				// so that the boxes under the mouse don't move
+				if (hotKeyPressed)
 				{
-					groundItem = item;
-					continue;
+					offset = i;
 				}
 
-				if (plugin.getHiddenBoxBounds() != null
-					&& item.equals(plugin.getHiddenBoxBounds().getValue())
-					&& plugin.getHiddenBoxBounds().getKey().contains(awtMousePos))
+				if (item == topGroundItem)
 				{
-					groundItem = item;
+					// Draw the item under the mouse last, so that it is on top
+					topGroundPoint = groundPoint;
+					topOffset = offset;
 					continue;
 				}
 
-				if (plugin.getHighlightBoxBounds() != null
-					&& item.equals(plugin.getHighlightBoxBounds().getValue())
-					&& plugin.getHighlightBoxBounds().getKey().contains(awtMousePos))
+				if (renderGroundItem(graphics, fm, item, groundPoint, offset, mousePos, false) && !hotKeyPressed)
 				{
-					groundItem = item;
+					offset++;
 				}
 			}
+		}
 
-			if (groundItem != null)
-			{
-				groundItemList.remove(groundItem);
-				groundItemList.add(groundItem);
-				topGroundItem = groundItem;
-			}
+		if (topGroundPoint != null)
+		{
+			renderGroundItem(graphics, fm, topGroundItem, topGroundPoint, topOffset, mousePos, true);
 		}
 
-		plugin.setTextBoxBounds(null);
-		plugin.setHiddenBoxBounds(null);
-		plugin.setHighlightBoxBounds(null);
+		return null;
+	}
 
-		final boolean onlyShowLoot = config.onlyShowLoot();
+	/**
+	 * Finds the item whose text or boxes were under the mouse last frame
+	 */
+	private GroundItem getTopGroundItem(Point mousePos)
+	{
+		final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
 
-		for (GroundItem item : groundItemList)
+		if (plugin.getTextBoxBounds() != null && plugin.getTextBoxBounds().getKey().contains(awtMousePos))
 		{
-			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
+			return plugin.getTextBoxBounds().getValue();
+		}
 
-			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE
-				|| (onlyShowLoot && !item.isMine()))
-			{
-				continue;
-			}
+		if (plugin.getHiddenBoxBounds() != null && plugin.getHiddenBoxBounds().getKey().contains(awtMousePos))
+		{
+			return plugin.getHiddenBoxBounds().getValue();
+		}
 
-			final Color highlighted = plugin.getHighlighted(item.getName(), item.getGePrice(), item.getHaPrice());
-			final Color hidden = plugin.getHidden(item.getName(), item.getGePrice(), item.getHaPrice(), item.isTradeable());
+		if (plugin.getHighlightBoxBounds() != null && plugin.getHighlightBoxBounds().getKey().contains(awtMousePos))
+		{
+			return plugin.getHighlightBoxBounds().getValue();
+		}
 
-			if (highlighted == null && !plugin.isHotKeyPressed())
-			{
-				// Do not display hidden items
-				if (hidden != null)
-				{
-					continue;
-				}
+		return null;
+	}
 
-				// Do not display non-highlighted items
-				if (config.showHighlightedOnly())
-				{
-					continue;
-				}
-			}
+	/**
+	 * Checks whether anything drawn for a stack of items on a tile could be visible
+	 */
+	private boolean isInViewport(LocalPoint groundPoint, int stackSize)
+	{
+		final Point canvasPoint = Perspective.localToCanvas(client, groundPoint, client.getPlane());
 
-			final Color color = plugin.getItemColor(highlighted, hidden);
+		if (canvasPoint == null)
+		{
+			return false;
+		}
 
-			if (config.highlightTiles())
-			{
-				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint);
+		final int viewportX = client.getViewportXOffset();
+		final int viewportY = client.getViewportYOffset();
 
-				if (poly != null)
-				{
-					OverlayUtil.renderPolygon(graphics, poly, color);
-				}
+		// Text is drawn centered on the tile and stacked upwards from it
+		return canvasPoint.getX() >= viewportX - VIEWPORT_MARGIN
+			&& canvasPoint.getX() <= viewportX + client.getViewportWidth() + VIEWPORT_MARGIN
+			&& canvasPoint.getY() >= viewportY - VIEWPORT_MARGIN
+			&& canvasPoint.getY() <= viewportY + client.getViewportHeight() + VIEWPORT_MARGIN + STRING_GAP * stackSize;
+	}
+
+	/**
+	 * Renders a single ground item
+	 *
+	 * @return true if the item's text was drawn, taking up a place in the stack
+	 */
+	private boolean renderGroundItem(Graphics2D graphics, FontMetrics fm, GroundItem item, LocalPoint groundPoint,
+		int offset, Point mousePos, boolean topItem)
+	{
+		final boolean dontShowOverlay = (config.itemHighlightMode() == MENU || plugin.isHideAll()) && !plugin.isHotKeyPressed();
+
+		if (config.onlyShowLoot() && !item.isMine())
+		{
+			return false;
+		}
+
+		final Color highlighted = item.getHighlighted();
+		final Color hidden = item.getHidden();
+
+		if (highlighted == null && !plugin.isHotKeyPressed())
+		{
+			// Do not display hidden items
+			if (hidden != null)
+			{
+				return false;
 			}
 
-			if (dontShowOverlay)
+			// Do not display non-highlighted items
+			if (config.showHighlightedOnly())
 			{
-				continue;
+				return false;
 			}
+		}
+
+		final Color color = plugin.getItemColor(highlighted, hidden);
 
-			itemStringBuilder.append(item.getName());
+		if (config.highlightTiles())
+		{
+			final Polygon poly = tileProjectionCache.getCanvasTilePoly(groundPoint);
 
-			if (item.getQuantity() > 1)
+			if (poly != null)
 			{
-				if (item.getQuantity() >= MAX_QUANTITY)
-				{
-					itemStringBuilder.append(" (Lots!)");
-				}
-				else
-				{
-					itemStringBuilder.append(" (")
-						.append(StackFormatter.quantityToStackSize(item.getQuantity()))
-						.append(")");
-				}
+				OverlayUtil.renderPolygon(graphics, poly, color);
 			}
+		}
 
-			if (config.priceDisplayMode() == PriceDisplayMode.BOTH)
-			{
-				if (item.getGePrice() > 0)
-				{
-					itemStringBuilder.append(" (EX: ")
-						.append(StackFormatter.quantityToStackSize(item.getGePrice()))
-						.append(" gp)");
-				}
+		if (dontShowOverlay)
+		{
+			return false;
+		}
 
-				if (item.getHaPrice() > 0)
-				{
-					itemStringBuilder.append(" (HA: ")
-						.append(StackFormatter.quantityToStackSize(item.getHaPrice()))
-						.append(" gp)");
-				}
+		itemStringBuilder.append(item.getName());
+
+		if (item.getQuantity() > 1)
+		{
+			if (item.getQuantity() >= MAX_QUANTITY)
+			{
+				itemStringBuilder.append(" (Lots!)");
 			}
-			else if (config.priceDisplayMode() != PriceDisplayMode.OFF)
+			else
 			{
-				final int price = config.priceDisplayMode() == PriceDisplayMode.GE
-					? item.getGePrice()
-					: item.getHaPrice();
-
-				if (price > 0)
-				{
-					itemStringBuilder
-						.append(" (")
-						.append(StackFormatter.quantityToStackSize(price))
-						.append(" gp)");
-				}
+				itemStringBuilder.append(" (")
+					.append(StackFormatter.quantityToStackSize(item.getQuantity()))
+					.append(")");
 			}
+		}
 
-			final String itemString = itemStringBuilder.toString();
-			itemStringBuilder.setLength(0);
-
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getHeight() + OFFSET_Z);
+		if (config.priceDisplayMode() == PriceDisplayMode.BOTH)
+		{
+			if (item.getGePrice() > 0)
+			{
+				itemStringBuilder.append(" (EX: ")
+					.append(StackFormatter.quantityToStackSize(item.getGePrice()))
+					.append(" gp)");
+			}
 
-			if (textPoint == null)
+			if (item.getHaPrice() > 0)
 			{
-				continue;
+				itemStringBuilder.append(" (HA: ")
+					.append(StackFormatter.quantityToStackSize(item.getHaPrice()))
+					.append(" gp)");
 			}
+		}
+		else if (config.priceDisplayMode() != PriceDisplayMode.OFF)
+		{
+			final int price = config.priceDisplayMode() == PriceDisplayMode.GE
+				? item.getGePrice()
+				: item.getHaPrice();
 
-			final int offset = plugin.isHotKeyPressed()
-				? item.getOffset()
-				: offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0);
+			if (price > 0)
+			{
+				itemStringBuilder
+					.append(" (")
+					.append(StackFormatter.quantityToStackSize(price))
+					.append(" gp)");
+			}
+		}
 
-			final int textX = textPoint.getX();
-			final int textY = textPoint.getY() - (STRING_GAP * offset);
+		final String itemString = itemStringBuilder.toString();
+		itemStringBuilder.setLength(0);
 
-			if (plugin.isHotKeyPressed())
-			{
-				final int stringWidth = fm.stringWidth(itemString);
-				final int stringHeight = fm.getHeight();
-
-				// Item bounds
-				int x = textX - 2;
-				int y = textY - stringHeight - 2;
-				int width = stringWidth + 4;
-				int height = stringHeight + 4;
-				final Rectangle itemBounds = new Rectangle(x, y, width, height);
-
-				// Hidden box
-				x += width + 2;
-				y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
-				width = height = RECTANGLE_SIZE;
-				final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
-
-				// Highlight box
-				x += width + 2;
-				final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
-
-				boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
-
-				if (mouseInBox)
-				{
-					plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
-				}
-				else if (mouseInHiddenBox)
-				{
-					plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
+		final Point textPoint = Perspective.getCanvasTextLocation(client,
+			graphics,
+			groundPoint,
+			itemString,
+			item.getHeight() + OFFSET_Z);
 
-				}
-				else if (mouseInHighlightBox)
-				{
-					plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
-				}
+		if (textPoint == null)
+		{
+			return false;
+		}
 
-				boolean topItem = topGroundItem == item;
+		final int textX = textPoint.getX();
+		final int textY = textPoint.getY() - (STRING_GAP * offset);
 
-				// Draw background if hovering
-				if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
-				{
-					backgroundComponent.setRectangle(itemBounds);
-					backgroundComponent.render(graphics);
-				}
+		if (plugin.isHotKeyPressed())
+		{
+			final int stringWidth = fm.stringWidth(itemString);
+			final int stringHeight = fm.getHeight();
+
+			// Item bounds
+			int x = textX - 2;
+			int y = textY - stringHeight - 2;
+			int width = stringWidth + 4;
+			int height = stringHeight + 4;
+			final Rectangle itemBounds = new Rectangle(x, y, width, height);
+
+			// Hidden box
+			x += width + 2;
+			y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
+			width = height = RECTANGLE_SIZE;
+			final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
+
+			// Highlight box
+			x += width + 2;
+			final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
+
+			boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
+
+			if (mouseInBox)
+			{
+				plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
+			}
+			else if (mouseInHiddenBox)
+			{
+				plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
 
-				// Draw hidden box
-				drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, hidden != null, true);
+			}
+			else if (mouseInHighlightBox)
+			{
+				plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
+			}
 
-				// Draw highlight box
-				drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, highlighted != null, false);
+			// Draw background if hovering
+			if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
+			{
+				backgroundComponent.setRectangle(itemBounds);
+				backgroundComponent.render(graphics);
 			}
 
-			textComponent.setText(itemString);
-			textComponent.setColor(color);
-			textComponent.setPosition(new java.awt.Point(textX, textY));
-			textComponent.render(graphics);
+			// Draw hidden box
+			drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, hidden != null, true);
+
+			// Draw highlight box
+			drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, highlighted != null, false);
 		}
 
-		return null;
+		textComponent.setText(itemString);
+		textComponent.setColor(color);
+		textComponent.setPosition(new java.awt.Point(textX, textY));
+		textComponent.render(graphics);
+
+		return true;
 	}
 
 	private void drawRectangle(Graphics2D graphics, Rectangle rect, Color color, boolean inList, boolean hiddenBox)
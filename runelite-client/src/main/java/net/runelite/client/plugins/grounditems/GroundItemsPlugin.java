@@ -158,6 +158,11 @@ public class GroundItemsPlugin extends Plugin
 
 	@Getter
 	private final Map<GroundItem.GroundItemKey, GroundItem> collectedGroundItems = new LinkedHashMap<>();
+	/**
+	 * The collected ground items, grouped by the tile they are on
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final Map<WorldPoint, List<GroundItem>> groundItemsByTile = new LinkedHashMap<>();
 	private final Map<Integer, Color> priceChecks = new LinkedHashMap<>();
 	private LoadingCache<String, Boolean> highlightedItems;
 	private LoadingCache<String, Boolean> hiddenItems;
@@ -190,6 +195,7 @@ public class GroundItemsPlugin extends Plugin
 		hiddenItemList = null;
 		highlightedItemsList = null;
 		collectedGroundItems.clear();
+		groundItemsByTile.clear();
 	}
 
 	@Subscribe
@@ -207,6 +213,7 @@ public class GroundItemsPlugin extends Plugin
 		if (event.getGameState() == GameState.LOADING)
 		{
 			collectedGroundItems.clear();
+			groundItemsByTile.clear();
 		}
 	}
 
@@ -217,18 +224,21 @@ public class GroundItemsPlugin extends Plugin
 		Tile tile = itemSpawned.getTile();
 
 		GroundItem groundItem = buildGroundItem(tile, item);
+		classify(groundItem);
 
 		GroundItem.GroundItemKey groundItemKey = new GroundItem.GroundItemKey(item.getId(), tile.getWorldLocation());
 		GroundItem existing = collectedGroundItems.putIfAbsent(groundItemKey, groundItem);
 		if (existing != null)
 		{
 			existing.setQuantity(existing.getQuantity() + groundItem.getQuantity());
+			classify(existing);
+		}
+		else
+		{
+			groundItemsByTile.computeIfAbsent(groundItem.getLocation(), k -> new ArrayList<>()).add(groundItem);
 		}
 
-		boolean shouldNotify = !config.onlyShowLoot() && config.highlightedColor().equals(getHighlighted(
-			groundItem.getName(),
-			groundItem.getGePrice(),
-			groundItem.getHaPrice()));
+		boolean shouldNotify = !config.onlyShowLoot() && config.highlightedColor().equals(groundItem.getHighlighted());
 
 		if (config.notifyHighlightedDrops() && shouldNotify)
 		{
@@ -252,10 +262,21 @@ public class GroundItemsPlugin extends Plugin
 		if (groundItem.getQuantity() <= item.getQuantity())
 		{
 			collectedGroundItems.remove(groundItemKey);
+
+			final List<GroundItem> tileItems = groundItemsByTile.get(groundItem.getLocation());
+			if (tileItems != null)
+			{
+				tileItems.remove(groundItem);
+				if (tileItems.isEmpty())
+				{
+					groundItemsByTile.remove(groundItem.getLocation());
+				}
+			}
 		}
 		else
 		{
 			groundItem.setQuantity(groundItem.getQuantity() - item.getQuantity());
+			classify(groundItem);
 		}
 	}
 
@@ -273,6 +294,7 @@ public class GroundItemsPlugin extends Plugin
 		if (groundItem != null)
 		{
 			groundItem.setQuantity(groundItem.getQuantity() + diff);
+			classify(groundItem);
 		}
 	}
 
@@ -349,10 +371,7 @@ public class GroundItemsPlugin extends Plugin
 			{
 				groundItem.setMine(true);
 
-				boolean shouldNotify = config.onlyShowLoot() && config.highlightedColor().equals(getHighlighted(
-					groundItem.getName(),
-					groundItem.getGePrice(),
-					groundItem.getHaPrice()));
+				boolean shouldNotify = config.onlyShowLoot() && config.highlightedColor().equals(groundItem.getHighlighted());
 
 				if (config.notifyHighlightedDrops() && shouldNotify)
 				{
@@ -441,6 +460,18 @@ public class GroundItemsPlugin extends Plugin
 		{
 			priceChecks.put(config.getHighlightOverValue(), config.highlightedColor());
 		}
+
+		collectedGroundItems.values().forEach(this::classify);
+	}
+
+	/**
+	 * Updates the highlighted and hidden colors of an item, which depend on its
+	 * name, stack value and the config
+	 */
+	private void classify(GroundItem groundItem)
+	{
+		groundItem.setHighlighted(getHighlighted(groundItem.getName(), groundItem.getGePrice(), groundItem.getHaPrice()));
+		groundItem.setHidden(getHidden(groundItem.getName(), groundItem.getGePrice(), groundItem.getHaPrice(), groundItem.isTradeable()));
 	}
 
 	@Subscribe
@@ -460,8 +491,7 @@ public class GroundItemsPlugin extends Plugin
 				return;
 			}
 
-			MenuEntry[] menuEntries = client.getMenuEntries();
-			MenuEntry lastEntry = menuEntries[menuEntries.length - 1];
+			final int lastEntry = client.getMenuEntryCount() - 1;
 
 			int quantity = 1;
 			Node current = itemLayer.getBottom();
@@ -493,22 +523,21 @@ public class GroundItemsPlugin extends Plugin
 
 				if (mode == BOTH || mode == OPTION)
 				{
-					lastEntry.setOption(ColorUtil.prependColorTag("Take", color));
+					client.setMenuEntryOption(lastEntry, ColorUtil.prependColorTag("Take", color));
 				}
 
 				if (mode == BOTH || mode == NAME)
 				{
-					String target = lastEntry.getTarget().substring(lastEntry.getTarget().indexOf(">") + 1);
-					lastEntry.setTarget(ColorUtil.prependColorTag(target, color));
+					String target = client.getMenuEntryTarget(lastEntry);
+					target = target.substring(target.indexOf(">") + 1);
+					client.setMenuEntryTarget(lastEntry, ColorUtil.prependColorTag(target, color));
 				}
 			}
 
 			if (config.showMenuItemQuantities() && itemComposition.isStackable() && quantity > 1)
 			{
-				lastEntry.setTarget(lastEntry.getTarget() + " (" + quantity + ")");
+				client.setMenuEntryTarget(lastEntry, client.getMenuEntryTarget(lastEntry) + " (" + quantity + ")");
 			}
-
-			client.setMenuEntries(menuEntries);
 		}
 	}
 
@@ -31,9 +31,9 @@ import java.awt.Polygon;
 import java.util.List;
 import javax.inject.Inject;
 import net.runelite.api.Client;
-import net.runelite.api.Perspective;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.game.TileProjectionCache;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -45,13 +45,15 @@ public class GroundMarkerOverlay extends Overlay
 	private final Client client;
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
+	private final TileProjectionCache tileProjectionCache;
 
 	@Inject
-	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
+	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin, TileProjectionCache tileProjectionCache)
 	{
 		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
+		this.tileProjectionCache = tileProjectionCache;
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.LOW);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -89,7 +91,7 @@ public class GroundMarkerOverlay extends Overlay
 			return;
 		}
 
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
+		Polygon poly = tileProjectionCache.getCanvasTilePoly(lp);
 		if (poly == null)
 		{
 			return;
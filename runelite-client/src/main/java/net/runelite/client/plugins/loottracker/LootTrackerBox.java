@@ -33,6 +33,7 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 import javax.swing.ImageIcon;
@@ -250,6 +251,13 @@ class LootTrackerBox extends JPanel
 		itemContainer.removeAll();
 		itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, 1, 1));
 
+		final List<ItemManager.ImageKey> imageKeys = new ArrayList<>(items.size());
+		for (final LootTrackerItem item : items)
+		{
+			imageKeys.add(new ItemManager.ImageKey(item.getId(), item.getQuantity(), item.getQuantity() > 1));
+		}
+		final Map<ItemManager.ImageKey, AsyncBufferedImage> itemImages = itemManager.getImages(imageKeys);
+
 		for (int i = 0; i < rowSize * ITEMS_PER_ROW; i++)
 		{
 			final JPanel slotContainer = new JPanel();
@@ -263,7 +271,7 @@ class LootTrackerBox extends JPanel
 				imageLabel.setVerticalAlignment(SwingConstants.CENTER);
 				imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
-				AsyncBufferedImage itemImage = itemManager.getImage(item.getId(), item.getQuantity(), item.getQuantity() > 1);
+				AsyncBufferedImage itemImage = itemImages.get(imageKeys.get(i));
 
 				if (item.isIgnored())
 				{
@@ -56,7 +56,6 @@ import net.runelite.client.menus.WidgetMenuOption;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.util.Text;
-import org.apache.commons.lang3.ArrayUtils;
 
 @PluginDescriptor(
 	name = "Menu Entry Swapper",
@@ -270,17 +269,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 			option = inventoryActions[shiftClickActionindex];
 		}
 
-		MenuEntry[] entries = event.getMenuEntries();
+		final int count = client.getMenuEntryCount();
 
-		for (MenuEntry entry : entries)
+		for (int i = 0; i < count; i++)
 		{
-			if (itemName.equals(Text.removeTags(entry.getTarget())))
+			if (itemName.equals(Text.removeTags(client.getMenuEntryTarget(i))))
 			{
-				entry.setType(MenuAction.RUNELITE.getId());
+				client.setMenuEntryType(i, MenuAction.RUNELITE.getId());
 
-				if (option.equals(entry.getOption()))
+				if (option.equals(client.getMenuEntryOption(i)))
 				{
-					entry.setOption("* " + option);
+					client.setMenuEntryOption(i, "* " + option);
 				}
 			}
 		}
@@ -291,7 +290,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		resetShiftClickEntry.setIdentifier(itemId);
 		resetShiftClickEntry.setParam1(widgetId);
 		resetShiftClickEntry.setType(MenuAction.RUNELITE.getId());
-		client.setMenuEntries(ArrayUtils.addAll(entries, resetShiftClickEntry));
+		client.insertMenuEntry(count, resetShiftClickEntry);
 	}
 
 	@Subscribe
@@ -588,13 +587,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 	}
 
-	private int searchIndex(MenuEntry[] entries, String option, String target, boolean strict)
+	private int searchIndex(String option, String target, boolean strict)
 	{
-		for (int i = entries.length - 1; i >= 0; i--)
+		for (int i = client.getMenuEntryCount() - 1; i >= 0; i--)
 		{
-			MenuEntry entry = entries[i];
-			String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-			String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+			String entryOption = Text.removeTags(client.getMenuEntryOption(i)).toLowerCase();
+			String entryTarget = Text.removeTags(client.getMenuEntryTarget(i)).toLowerCase();
 
 			if (strict)
 			{
@@ -617,18 +615,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private void swap(String optionA, String optionB, String target, boolean strict)
 	{
-		MenuEntry[] entries = client.getMenuEntries();
-
-		int idxA = searchIndex(entries, optionA, target, strict);
-		int idxB = searchIndex(entries, optionB, target, strict);
+		int idxA = searchIndex(optionA, target, strict);
+		int idxB = searchIndex(optionB, target, strict);
 
 		if (idxA >= 0 && idxB >= 0)
 		{
-			MenuEntry entry = entries[idxA];
-			entries[idxA] = entries[idxB];
-			entries[idxB] = entry;
-
-			client.setMenuEntries(entries);
+			client.swapMenuEntries(idxA, idxB);
 		}
 	}
 
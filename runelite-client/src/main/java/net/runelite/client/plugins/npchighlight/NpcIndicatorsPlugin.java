@@ -67,7 +67,7 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -139,7 +139,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	/**
 	 * Highlight strings from the configuration
 	 */
-	private List<String> highlights = new ArrayList<>();
+	private WildcardMatcherSet highlights = WildcardMatcherSet.compile(Collections.emptyList());
 
 	/**
 	 * NPC ids marked with the Tag option
@@ -187,7 +187,7 @@ public class NpcIndicatorsPlugin extends Plugin
 		overlayManager.add(npcSceneOverlay);
 		overlayManager.add(npcMinimapOverlay);
 		keyManager.registerKeyListener(inputListener);
-		highlights = getHighlights();
+		highlights = WildcardMatcherSet.compile(getHighlights());
 		clientThread.invoke(() ->
 		{
 			skipNextSpawnCheck = true;
@@ -232,7 +232,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		highlights = getHighlights();
+		highlights = WildcardMatcherSet.compile(getHighlights());
 		rebuildAllNpcs();
 	}
 
@@ -317,15 +317,11 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		for (String highlight : highlights)
+		if (highlights.matches(npcName))
 		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				memorizeNpc(npc);
-				highlightedNpcs.add(npc);
-				spawnedNpcsThisTick.add(npc);
-				break;
-			}
+			memorizeNpc(npc);
+			highlightedNpcs.add(npc);
+			spawnedNpcsThisTick.add(npc);
 		}
 	}
 
@@ -445,7 +441,6 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		outer:
 		for (NPC npc : client.getNpcs())
 		{
 			final String npcName = npc.getName();
@@ -461,14 +456,11 @@ public class NpcIndicatorsPlugin extends Plugin
 				continue;
 			}
 
-			for (String highlight : highlights)
+			if (highlights.matches(npcName))
 			{
-				if (WildcardMatcher.matches(highlight, npcName))
-				{
-					memorizeNpc(npc);
-					highlightedNpcs.add(npc);
-					continue outer;
-				}
+				memorizeNpc(npc);
+				highlightedNpcs.add(npc);
+				continue;
 			}
 
 			// NPC is not highlighted
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import java.util.Arrays;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An additive pattern database for a rectangular region in the bottom right of the board.
+ * <p>
+ * The tiles of the region are split into disjoint groups, and for each group the database
+ * stores the number of moves of that group's tiles needed to bring them to their goal
+ * positions, for every placement of them. Moves of tiles outside the group are not counted,
+ * so the values of the groups can be summed and remain admissible.
+ *
+ * https://en.wikipedia.org/wiki/Pattern_database
+ */
+public class PatternDatabase
+{
+	private static final int UNVISITED = 0xFF;
+
+	private final int[] cells;
+	private final int[] regionIndex = new int[DIMENSION * DIMENSION];
+	private final int[][] groups;
+	private final int[] tileGroup = new int[DIMENSION * DIMENSION];
+	private final byte[][] tables;
+
+	/**
+	 * Builds the database. This takes some time for large groups, so should be done once
+	 * and the database reused.
+	 *
+	 * @param minX the left column of the region
+	 * @param minY the top row of the region
+	 * @param groups the tile groups, which together must hold every tile of the region
+	 */
+	public PatternDatabase(int minX, int minY, int[][] groups)
+	{
+		this.groups = groups;
+
+		cells = new int[(DIMENSION - minX) * (DIMENSION - minY)];
+		Arrays.fill(regionIndex, -1);
+		int count = 0;
+		for (int y = minY; y < DIMENSION; y++)
+		{
+			for (int x = minX; x < DIMENSION; x++)
+			{
+				regionIndex[y * DIMENSION + x] = count;
+				cells[count++] = y * DIMENSION + x;
+			}
+		}
+
+		Arrays.fill(tileGroup, -1);
+		tables = new byte[groups.length][];
+		for (int i = 0; i < groups.length; i++)
+		{
+			for (int tile : groups[i])
+			{
+				tileGroup[tile] = i;
+			}
+
+			tables[i] = build(groups[i]);
+		}
+	}
+
+	public int getGroupCount()
+	{
+		return groups.length;
+	}
+
+	/**
+	 * @return the group a tile belongs to, or -1 if it is not in the database
+	 */
+	public int getGroup(int tile)
+	{
+		return tileGroup[tile];
+	}
+
+	/**
+	 * Computes the heuristic value of one group
+	 *
+	 * @param group the group
+	 * @param positions the board position of each tile, indexed by tile
+	 * @return the moves needed to solve the group
+	 */
+	public int computeValue(int group, int[] positions)
+	{
+		final int[] tiles = groups[group];
+		int used = 0;
+		int index = 0;
+		for (int i = 0; i < tiles.length; i++)
+		{
+			final int cell = regionIndex[positions[tiles[i]]];
+			index = index * (cells.length - i) + cell - Integer.bitCount(used & ((1 << cell) - 1));
+			used |= 1 << cell;
+		}
+
+		return tables[group][index] & 0xFF;
+	}
+
+	/**
+	 * Computes the heuristic value of every group
+	 *
+	 * @param positions the board position of each tile, indexed by tile
+	 * @return the moves needed to solve all of the groups
+	 */
+	public int computeValue(int[] positions)
+	{
+		int value = 0;
+		for (int group = 0; group < groups.length; group++)
+		{
+			value += computeValue(group, positions);
+		}
+		return value;
+	}
+
+	/**
+	 * Computes the table of one group with a breadth first search backwards from the goal.
+	 * Search states are the region cells of the group's tiles and of the blank, with moves of
+	 * the blank into an empty cell being free.
+	 */
+	private byte[] build(int[] tiles)
+	{
+		final int size = cells.length;
+		final int placements = placements(size, tiles.length);
+		final byte[] distances = new byte[placements * size];
+		Arrays.fill(distances, (byte) UNVISITED);
+
+		final int[] placement = new int[tiles.length];
+		for (int i = 0; i < tiles.length; i++)
+		{
+			placement[i] = regionIndex[tiles[i]];
+		}
+
+		// the blank starts in the bottom right corner
+		final int start = rank(placement) * size + size - 1;
+		distances[start] = 0;
+
+		StateList current = new StateList();
+		StateList next = new StateList();
+		current.add(start);
+
+		final int[] occupant = new int[size];
+		for (int distance = 0; current.size > 0; distance++)
+		{
+			// free moves add to the current list while it is being processed
+			for (int i = 0; i < current.size; i++)
+			{
+				final int state = current.states[i];
+				if ((distances[state] & 0xFF) != distance)
+				{
+					continue;
+				}
+
+				final int blank = state % size;
+				unrank(state / size, placement);
+
+				Arrays.fill(occupant, -1);
+				for (int j = 0; j < placement.length; j++)
+				{
+					occupant[placement[j]] = j;
+				}
+
+				final int blankX = cells[blank] % DIMENSION;
+				final int blankY = cells[blank] / DIMENSION;
+				for (int direction = 0; direction < 4; direction++)
+				{
+					final int x = blankX + (direction == 0 ? -1 : direction == 1 ? 1 : 0);
+					final int y = blankY + (direction == 2 ? -1 : direction == 3 ? 1 : 0);
+					if (x < 0 || y < 0 || x >= DIMENSION || y >= DIMENSION || regionIndex[y * DIMENSION + x] == -1)
+					{
+						continue;
+					}
+
+					final int cell = regionIndex[y * DIMENSION + x];
+					final int tile = occupant[cell];
+					final int neighbor;
+					final int cost;
+					if (tile == -1)
+					{
+						neighbor = state - blank + cell;
+						cost = 0;
+					}
+					else
+					{
+						placement[tile] = blank;
+						neighbor = rank(placement) * size + cell;
+						placement[tile] = cell;
+						cost = 1;
+					}
+
+					if ((distances[neighbor] & 0xFF) > distance + cost)
+					{
+						distances[neighbor] = (byte) (distance + cost);
+						(cost == 0 ? current : next).add(neighbor);
+					}
+				}
+			}
+
+			StateList list = current;
+			current = next;
+			next = list;
+			next.size = 0;
+		}
+
+		// the blank may be anywhere outside of the group
+		final byte[] table = new byte[placements];
+		for (int i = 0; i < placements; i++)
+		{
+			int min = UNVISITED;
+			for (int blank = 0; blank < size; blank++)
+			{
+				min = Math.min(min, distances[i * size + blank] & 0xFF);
+			}
+			table[i] = (byte) min;
+		}
+		return table;
+	}
+
+	private int rank(int[] placement)
+	{
+		int used = 0;
+		int index = 0;
+		for (int i = 0; i < placement.length; i++)
+		{
+			final int cell = placement[i];
+			index = index * (cells.length - i) + cell - Integer.bitCount(used & ((1 << cell) - 1));
+			used |= 1 << cell;
+		}
+		return index;
+	}
+
+	private void unrank(int index, int[] placement)
+	{
+		// recover the mixed radix digits, least significant last
+		for (int i = placement.length - 1; i >= 0; i--)
+		{
+			final int radix = cells.length - i;
+			placement[i] = index % radix;
+			index /= radix;
+		}
+
+		// each digit counts the unused cells before the tile's cell
+		int used = 0;
+		for (int i = 0; i < placement.length; i++)
+		{
+			int cell = 0;
+			for (int free = placement[i]; ; cell++)
+			{
+				if ((used & (1 << cell)) == 0 && free-- == 0)
+				{
+					break;
+				}
+			}
+			placement[i] = cell;
+			used |= 1 << cell;
+		}
+	}
+
+	private static int placements(int cells, int tiles)
+	{
+		int count = 1;
+		for (int i = 0; i < tiles; i++)
+		{
+			count *= cells - i;
+		}
+		return count;
+	}
+
+	private static class StateList
+	{
+		private int[] states = new int[1024];
+		private int size;
+
+		private void add(int state)
+		{
+			if (size == states.length)
+			{
+				states = Arrays.copyOf(states, size * 2);
+			}
+			states[size++] = state;
+		}
+	}
+}
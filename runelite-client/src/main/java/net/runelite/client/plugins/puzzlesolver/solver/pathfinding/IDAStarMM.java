@@ -41,6 +41,7 @@ public class IDAStarMM extends IDAStar
 	private List<PuzzleState> stateList = new ArrayList<>();
 	private List<List<Integer>> validRowNumbers = new ArrayList<>();
 	private List<List<Integer>> validColumnNumbers = new ArrayList<>();
+	private final Pathfinder remainderPathfinder = new ParallelIDAStar();
 
 	public IDAStarMM(Heuristic heuristic)
 	{
@@ -72,8 +73,13 @@ public class IDAStarMM extends IDAStar
 		//Remove last state
 		stateList.remove(stateList.size() - 1);
 
-		//Pathfinder for 4x4
-		path.addAll(super.computePath(currentState));
+		//Pathfinder for 3x4, using a pattern database
+		List<PuzzleState> remainder = remainderPathfinder.computePath(currentState);
+		if (remainder == null)
+		{
+			return null;
+		}
+		path.addAll(remainder);
 
 		path.addAll(0, stateList);
 
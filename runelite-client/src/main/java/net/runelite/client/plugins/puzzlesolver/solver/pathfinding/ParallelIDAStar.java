@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+
+/**
+ * An implementation of the IDA* algorithm which searches by moving tiles in place on a
+ * single board instead of creating a state per node, and searches the subtrees below the
+ * first few moves in parallel.
+ * <p>
+ * When the top two rows and left column are already solved, as is the case for the
+ * remainder left by {@link IDAStarMM}, the search is restricted to the remaining region
+ * and uses an additive pattern database alongside the manhattan distance.
+ *
+ * https://en.wikipedia.org/wiki/Iterative_deepening_A*
+ */
+public class ParallelIDAStar extends Pathfinder
+{
+	private static final int REGION_X = 1;
+	private static final int REGION_Y = 2;
+	private static final int[][] REGION_GROUPS =
+	{
+		{11, 12, 16, 17},
+		{21, 22, 23},
+		{13, 14, 18, 19}
+	};
+
+	// Number of subtrees to split each iteration into
+	private static final int FRONTIER_SIZE = 64;
+
+	private static PatternDatabase regionDatabase;
+
+	private final int threads;
+
+	public ParallelIDAStar()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelIDAStar(int threads)
+	{
+		super(new ManhattanDistance());
+		this.threads = threads;
+	}
+
+	private static synchronized PatternDatabase getRegionDatabase()
+	{
+		if (regionDatabase == null)
+		{
+			regionDatabase = new PatternDatabase(REGION_X, REGION_Y, REGION_GROUPS);
+		}
+		return regionDatabase;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		final int[] board = new int[DIMENSION * DIMENSION];
+		for (int i = 0; i < board.length; i++)
+		{
+			board[i] = root.getPiece(i % DIMENSION, i / DIMENSION);
+		}
+
+		final boolean region = isRegionSolvable(board);
+		final Search search = region
+			? new Search(board, REGION_X, REGION_Y, getRegionDatabase())
+			: new Search(board, 0, 0, null);
+
+		final int[] moves = region || threads <= 1 ? search.solve() : solveParallel(search);
+		if (moves == null)
+		{
+			return null;
+		}
+
+		final List<PuzzleState> path = new ArrayList<>(moves.length + 1);
+		PuzzleState state = root;
+		path.add(state);
+		for (int move : moves)
+		{
+			final int blank = state.getEmptyPiece();
+			state = state.swap(blank % DIMENSION, blank / DIMENSION, move % DIMENSION, move / DIMENSION);
+			path.add(state);
+		}
+		return path;
+	}
+
+	/**
+	 * Checks if only the region covered by the pattern database remains to be solved
+	 */
+	private static boolean isRegionSolvable(int[] board)
+	{
+		for (int i = 0; i < board.length; i++)
+		{
+			final int x = i % DIMENSION;
+			final int y = i / DIMENSION;
+			if ((x < REGION_X || y < REGION_Y) && board[i] != i)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int[] solveParallel(Search root)
+	{
+		// Expand the first few moves breadth first, to have enough subtrees to keep every thread busy
+		List<Search> frontier = new ArrayList<>();
+		frontier.add(root);
+		int depth = 0;
+		while (frontier.size() < FRONTIER_SIZE)
+		{
+			final List<Search> next = new ArrayList<>();
+			for (Search search : frontier)
+			{
+				search.expand(next);
+			}
+			frontier = next;
+			depth++;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("puzzle-solver-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			int bound = root.heuristic();
+			while (true)
+			{
+				if (bound < depth)
+				{
+					// The frontier is deeper than the bound, so search from the root
+					final int[] moves = root.search(bound);
+					if (moves != null)
+					{
+						return moves;
+					}
+
+					bound = root.nextBound;
+					continue;
+				}
+
+				final AtomicReference<int[]> solution = new AtomicReference<>();
+				final List<Future<Integer>> futures = new ArrayList<>(frontier.size());
+				for (Search search : frontier)
+				{
+					final int searchBound = bound;
+					futures.add(executor.submit(() ->
+					{
+						search.abort = solution;
+						final int[] moves = search.search(searchBound);
+						if (moves != null)
+						{
+							solution.compareAndSet(null, moves);
+						}
+						return search.nextBound;
+					}));
+				}
+
+				int nextBound = Integer.MAX_VALUE;
+				for (Future<Integer> future : futures)
+				{
+					nextBound = Math.min(nextBound, future.get());
+				}
+
+				if (solution.get() != null)
+				{
+					return solution.get();
+				}
+
+				bound = nextBound;
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (ExecutionException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * A board which is searched by making and unmaking moves in place
+	 */
+	private static class Search
+	{
+		private final int minX;
+		private final int minY;
+		private final PatternDatabase database;
+
+		private final int[] board;
+		private final int[] positions = new int[DIMENSION * DIMENSION];
+		private final int[] groupValues;
+		private int blank;
+		private int manhattan;
+		private int databaseValue;
+
+		// Moves made to reach the board, as the positions the blank moved to
+		private int[] prefix = new int[0];
+		// The position of the blank before the last move of the prefix
+		private int previous = -1;
+		private int[] moves = new int[64];
+		private int depth;
+
+		private int nextBound;
+		private AtomicReference<int[]> abort;
+
+		Search(int[] board, int minX, int minY, PatternDatabase database)
+		{
+			this.board = board;
+			this.minX = minX;
+			this.minY = minY;
+			this.database = database;
+			this.groupValues = new int[database != null ? database.getGroupCount() : 0];
+
+			for (int i = 0; i < board.length; i++)
+			{
+				if (board[i] == BLANK_TILE_VALUE)
+				{
+					blank = i;
+				}
+				else
+				{
+					positions[board[i]] = i;
+					manhattan += distance(board[i], i);
+				}
+			}
+
+			for (int group = 0; group < groupValues.length; group++)
+			{
+				groupValues[group] = database.computeValue(group, positions);
+				databaseValue += groupValues[group];
+			}
+		}
+
+		private Search(Search search)
+		{
+			this.minX = search.minX;
+			this.minY = search.minY;
+			this.database = search.database;
+			this.board = Arrays.copyOf(search.board, search.board.length);
+			System.arraycopy(search.positions, 0, positions, 0, positions.length);
+			this.groupValues = Arrays.copyOf(search.groupValues, search.groupValues.length);
+			this.blank = search.blank;
+			this.manhattan = search.manhattan;
+			this.databaseValue = search.databaseValue;
+			this.prefix = search.prefix;
+		}
+
+		int heuristic()
+		{
+			return Math.max(manhattan, databaseValue);
+		}
+
+		/**
+		 * Adds the boards one move away to a list, not counting the move back
+		 */
+		void expand(List<Search> next)
+		{
+			final int from = blank;
+			for (int direction = 0; direction < 4; direction++)
+			{
+				final int to = neighbor(from, direction);
+				if (to == -1 || to == previous)
+				{
+					continue;
+				}
+
+				final Search search = new Search(this);
+				search.move(to);
+				search.previous = from;
+				search.prefix = Arrays.copyOf(prefix, prefix.length + 1);
+				search.prefix[prefix.length] = to;
+				next.add(search);
+			}
+		}
+
+		/**
+		 * Searches for a solution below this board by repeatedly deepening the bound
+		 */
+		int[] solve()
+		{
+			int bound = heuristic();
+			while (true)
+			{
+				final int[] solution = search(bound);
+				if (solution != null || nextBound == Integer.MAX_VALUE)
+				{
+					return solution;
+				}
+				bound = nextBound;
+			}
+		}
+
+		/**
+		 * Searches for a solution of at most the given length, counting the prefix
+		 *
+		 * @return the moves of the solution, or null if there is none within the bound
+		 */
+		int[] search(int bound)
+		{
+			nextBound = Integer.MAX_VALUE;
+			depth = 0;
+			if (!search(prefix.length, bound, previous))
+			{
+				return null;
+			}
+
+			final int[] solution = Arrays.copyOf(prefix, prefix.length + depth);
+			System.arraycopy(moves, 0, solution, prefix.length, depth);
+			return solution;
+		}
+
+		private boolean search(int g, int bound, int previous)
+		{
+			final int h = heuristic();
+			final int f = g + h;
+			if (f > bound)
+			{
+				nextBound = Math.min(nextBound, f);
+				return false;
+			}
+
+			if (h == 0)
+			{
+				return true;
+			}
+
+			if (abort != null && abort.get() != null || Thread.currentThread().isInterrupted())
+			{
+				return false;
+			}
+
+			if (depth == moves.length)
+			{
+				moves = Arrays.copyOf(moves, depth * 2);
+			}
+
+			final int from = blank;
+			for (int direction = 0; direction < 4; direction++)
+			{
+				final int to = neighbor(from, direction);
+				if (to == -1 || to == previous)
+				{
+					continue;
+				}
+
+				move(to);
+				moves[depth++] = to;
+
+				if (search(g + 1, bound, from))
+				{
+					return true;
+				}
+
+				depth--;
+				move(from);
+			}
+
+			return false;
+		}
+
+		/**
+		 * Moves the blank to an adjacent position
+		 */
+		private void move(int to)
+		{
+			final int tile = board[to];
+			final int from = blank;
+
+			board[from] = tile;
+			board[to] = BLANK_TILE_VALUE;
+			positions[tile] = from;
+			blank = to;
+
+			manhattan += distance(tile, from) - distance(tile, to);
+
+			if (database != null)
+			{
+				final int group = database.getGroup(tile);
+				if (group != -1)
+				{
+					final int value = database.computeValue(group, positions);
+					databaseValue += value - groupValues[group];
+					groupValues[group] = value;
+				}
+			}
+		}
+
+		/**
+		 * @return the position next to a position in a direction, or -1 if it is outside of the searched region
+		 */
+		private int neighbor(int position, int direction)
+		{
+			final int x = position % DIMENSION;
+			final int y = position / DIMENSION;
+			switch (direction)
+			{
+				case 0:
+					return x > minX ? position - 1 : -1;
+				case 1:
+					return x < DIMENSION - 1 ? position + 1 : -1;
+				case 2:
+					return y > minY ? position - DIMENSION : -1;
+				default:
+					return y < DIMENSION - 1 ? position + DIMENSION : -1;
+			}
+		}
+
+		private static int distance(int tile, int position)
+		{
+			return Math.abs(tile % DIMENSION - position % DIMENSION) + Math.abs(tile / DIMENSION - position / DIMENSION);
+		}
+	}
+}
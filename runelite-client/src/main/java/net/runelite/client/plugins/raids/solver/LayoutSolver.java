@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.raids.solver;
 
+import com.google.common.base.Preconditions;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
@@ -83,50 +84,51 @@ public class LayoutSolver
 		"SCPFC.CCSSF - #NEESEN#WSWWNE",
 	};
 
-	public LayoutSolver()
+	/*
+	 * Index of the layouts by the room at each position. Each mask has bit i set
+	 * for layout i, so the layouts matching a code are found by and-ing together
+	 * one mask per position of the code.
+	 */
+	private static final int SYMBOLS = 256;
+	private static long[] emptyMasks;
+	private static long[][] symbolMasks;
+	private static long allMask;
+
+	static
 	{
 		build();
+		buildIndex();
 	}
 
 	public Layout findLayout(String code)
 	{
-		Layout solution = null;
-		int matches = 0;
-		boolean match;
+		long candidates = allMask;
 
-		for (Layout layout : layouts)
+		for (int i = 0; i < code.length() && i < symbolMasks.length; i++)
 		{
-			match = true;
+			char c = code.charAt(i);
 
-			for (int i = 0; i < code.length(); i++)
+			if (c == ' ')
 			{
-				Room room = layout.getRoomAt(i);
-				char c = code.charAt(i);
-
-				if (room != null && c != ' ' && c != room.getSymbol())
-				{
-					match = false;
-					break;
-				}
+				continue;
 			}
 
-			if (match)
-			{
-				solution = layout;
-				matches++;
-				log.debug("Found matching layout: " + layout.toCode());
-			}
+			// layouts without a room at this position match any room
+			candidates &= emptyMasks[i] | (c < SYMBOLS ? symbolMasks[i][c] : 0L);
 		}
 
-		if (matches == 1)
+		if (Long.bitCount(candidates) != 1)
 		{
-			return solution;
+			log.debug("Found {} matching layouts", Long.bitCount(candidates));
+			return null;
 		}
 
-		return null;
+		Layout solution = layouts.get(Long.numberOfTrailingZeros(candidates));
+		log.debug("Found matching layout: " + solution.toCode());
+		return solution;
 	}
 
-	private int calcStart(String directions)
+	private static int calcStart(String directions)
 	{
 		int startPos = 0;
 		int position = 0;
@@ -147,7 +149,7 @@ public class LayoutSolver
 		return startPos;
 	}
 
-	private int dirToPosDelta(char direction)
+	private static int dirToPosDelta(char direction)
 	{
 		switch (String.valueOf(direction))
 		{
@@ -168,7 +170,7 @@ public class LayoutSolver
 		}
 	}
 
-	private void build()
+	private static void build()
 	{
 		for (String code : codes)
 		{
@@ -219,4 +221,43 @@ public class LayoutSolver
 			layouts.add(layout);
 		}
 	}
+
+	private static void buildIndex()
+	{
+		Preconditions.checkState(layouts.size() <= Long.SIZE, "too many layouts to index");
+
+		int positions = 0;
+		for (Layout layout : layouts)
+		{
+			for (Room room : layout.getRooms())
+			{
+				positions = Math.max(positions, room.getPosition() + 1);
+			}
+		}
+
+		emptyMasks = new long[positions];
+		symbolMasks = new long[positions][SYMBOLS];
+		allMask = layouts.size() == Long.SIZE ? -1L : (1L << layouts.size()) - 1;
+
+		for (int i = 0; i < layouts.size(); i++)
+		{
+			Layout layout = layouts.get(i);
+			long bit = 1L << i;
+
+			for (int position = 0; position < positions; position++)
+			{
+				Room room = layout.getRoomAt(position);
+
+				if (room == null)
+				{
+					emptyMasks[position] |= bit;
+				}
+				else
+				{
+					Preconditions.checkState(room.getSymbol() < SYMBOLS, "unexpected room symbol");
+					symbolMasks[position][room.getSymbol()] |= bit;
+				}
+			}
+		}
+	}
 }
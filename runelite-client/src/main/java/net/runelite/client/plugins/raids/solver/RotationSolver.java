@@ -98,33 +98,21 @@ public class RotationSolver
 
 		for (Rotation rotation : ROTATIONS)
 		{
-			COMPARE:
-			for (int i = 0; i < rotation.size(); i++)
+			// each boss appears once per rotation, so the start room can only line up one way
+			int i = rotation.indexOf(rooms[start].getBoss());
+
+			if (i == -1 || !matches(rotation, rooms, start, i))
+			{
+				continue;
+			}
+
+			if (match != null && match != rotation)
 			{
-				if (rooms[start].getBoss() == rotation.get(i))
-				{
-					for (int j = start + 1; j < rooms.length; j++)
-					{
-						if (rooms[j].getBoss() == null || rooms[j].getBoss() == Boss.UNKNOWN)
-						{
-							continue;
-						}
-
-						if (rooms[j].getBoss() != rotation.get(i + j - start))
-						{
-							break COMPARE;
-						}
-					}
-
-					if (match != null && match != rotation)
-					{
-						return false;
-					}
-
-					index = i - start;
-					match = rotation;
-				}
+				return false;
 			}
+
+			index = i - start;
+			match = rotation;
 		}
 
 		if (match == null)
@@ -147,4 +135,22 @@ public class RotationSolver
 
 		return true;
 	}
+
+	private static boolean matches(Rotation rotation, RaidRoom[] rooms, int start, int offset)
+	{
+		for (int j = start + 1; j < rooms.length; j++)
+		{
+			if (rooms[j] == null || rooms[j].getBoss() == null || rooms[j].getBoss() == Boss.UNKNOWN)
+			{
+				continue;
+			}
+
+			if (rooms[j].getBoss() != rotation.get(offset + j - start))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
 }
@@ -30,9 +30,9 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import javax.inject.Inject;
 import net.runelite.api.Client;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.game.TileProjectionCache;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -43,12 +43,14 @@ public class TileIndicatorsOverlay extends Overlay
 {
 	private final Client client;
 	private final TileIndicatorsConfig config;
+	private final TileProjectionCache tileProjectionCache;
 
 	@Inject
-	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config)
+	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config, TileProjectionCache tileProjectionCache)
 	{
 		this.client = client;
 		this.config = config;
+		this.tileProjectionCache = tileProjectionCache;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPriority(OverlayPriority.MED);
@@ -93,7 +95,7 @@ public class TileIndicatorsOverlay extends Overlay
 			return;
 		}
 
-		final Polygon poly = Perspective.getCanvasTilePoly(client, dest);
+		final Polygon poly = tileProjectionCache.getCanvasTilePoly(dest);
 
 		if (poly == null)
 		{
@@ -52,6 +52,7 @@ class WoodcuttingOverlay extends Overlay
 	private WoodcuttingOverlay(Client client, WoodcuttingPlugin plugin, WoodcuttingConfig config, XpTrackerService xpTrackerService)
 	{
 		super(plugin);
+		panelComponent.setCached(true);
 		setPosition(OverlayPosition.TOP_LEFT);
 		this.client = client;
 		this.plugin = plugin;
@@ -30,6 +30,7 @@ import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -50,6 +51,16 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private OverlayLayer layer = OverlayLayer.UNDER_WIDGETS;
 	private final List<OverlayMenuEntry> menuEntries = new ArrayList<>();
 
+	/**
+	 * Moving average of the time spent rendering this overlay, in nanoseconds.
+	 * The slowest overlays are periodically logged by the renderer at debug level.
+	 */
+	@Setter(AccessLevel.PACKAGE)
+	private long renderTime;
+
+	@Getter(AccessLevel.PACKAGE)
+	private final OverlayLayout layout = new OverlayLayout();
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -54,6 +54,20 @@ class OverlayBounds
 		canvasTopRight = new Rectangle(other.canvasTopRight);
 	}
 
+	/**
+	 * Resets these bounds to the given bounds without allocating new rectangles
+	 */
+	void setFrom(OverlayBounds other)
+	{
+		topLeft.setBounds(other.topLeft);
+		topCenter.setBounds(other.topCenter);
+		topRight.setBounds(other.topRight);
+		bottomLeft.setBounds(other.bottomLeft);
+		bottomRight.setBounds(other.bottomRight);
+		aboveChatboxRight.setBounds(other.aboveChatboxRight);
+		canvasTopRight.setBounds(other.canvasTopRight);
+	}
+
 	OverlayBounds translated(final int x, final int y)
 	{
 		final OverlayBounds translated = new OverlayBounds(this);
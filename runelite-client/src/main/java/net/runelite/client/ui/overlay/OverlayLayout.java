@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.Rectangle;
+
+/**
+ * Cached layout of an overlay within a snap corner. The layout only depends on the
+ * overlay position, the current corner origin and the size the overlay rendered at,
+ * so it is recomputed only when one of those changes.
+ */
+class OverlayLayout
+{
+	private OverlayPosition position;
+	private int cornerX = Integer.MIN_VALUE;
+	private int cornerY = Integer.MIN_VALUE;
+	private int width = -1;
+	private int height = -1;
+
+	private int x;
+	private int y;
+	private int paddingX;
+	private int paddingY;
+
+	/**
+	 * Lays out the overlay in the given snap corner, and advances the corner past it
+	 *
+	 * @param overlayPosition position the overlay is being drawn at
+	 * @param snapCorner the snap corner, which is translated past the overlay
+	 * @param bounds the current overlay bounds
+	 * @param location the location to lay the overlay out at
+	 */
+	void layout(OverlayPosition overlayPosition, Rectangle snapCorner, Rectangle bounds, Point location)
+	{
+		if (overlayPosition != position
+			|| snapCorner.x != cornerX
+			|| snapCorner.y != cornerY
+			|| bounds.width != width
+			|| bounds.height != height)
+		{
+			position = overlayPosition;
+			cornerX = snapCorner.x;
+			cornerY = snapCorner.y;
+			width = bounds.width;
+			height = bounds.height;
+
+			final Dimension dimension = new Dimension(width, height);
+			final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
+			final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, OverlayRenderer.PADDING);
+			x = cornerX + translation.x;
+			y = cornerY + translation.y;
+			paddingX = padding.x;
+			paddingY = padding.y;
+		}
+
+		location.setLocation(x, y);
+		snapCorner.translate(paddingX, paddingY);
+	}
+}
@@ -24,7 +24,6 @@
  */
 package net.runelite.client.ui.overlay;
 
-import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -33,10 +32,13 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.MenuAction;
@@ -56,16 +58,20 @@ import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
 
 @Singleton
+@Slf4j
 public class OverlayRenderer extends MouseAdapter implements KeyListener
 {
 	private static final int BORDER = 5;
 	private static final int BORDER_TOP = BORDER + 15;
-	private static final int PADDING = 2;
+	static final int PADDING = 2;
 	private static final Dimension SNAP_CORNER_SIZE = new Dimension(80, 80);
 	private static final Color SNAP_CORNER_COLOR = new Color(0, 255, 255, 50);
 	private static final Color SNAP_CORNER_ACTIVE_COLOR = new Color(0, 255, 0, 100);
 	private static final Color MOVING_OVERLAY_COLOR = new Color(255, 255, 0, 100);
 	private static final Color MOVING_OVERLAY_ACTIVE_COLOR = new Color(255, 255, 0, 200);
+	private static final int RENDER_TIME_SMOOTHING = 16;
+	private static final long RENDER_TIME_REPORT_INTERVAL = 30_000;
+	private static final int RENDER_TIME_REPORT_COUNT = 5;
 	private final Client client;
 	private final OverlayManager overlayManager;
 	private final RuneLiteConfig runeLiteConfig;
@@ -85,6 +91,11 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private boolean chatboxHidden;
 	private boolean isResizeable;
 	private OverlayBounds snapCorners;
+	// Snap corners used during layout, reset from snapCorners every frame because overlays will modify them
+	private OverlayBounds layoutSnapCorners;
+	private final Point mouse = new Point();
+	private final Point location = new Point();
+	private long lastRenderTimeReport;
 
 	@Inject
 	private OverlayRenderer(
@@ -143,16 +154,54 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	public void onBeforeRender(BeforeRender event)
 	{
 		menuEntries = null;
+
+		if (log.isDebugEnabled())
+		{
+			reportRenderTimes();
+		}
 	}
 
-	public void render(Graphics2D graphics, final OverlayLayer layer)
+	/**
+	 * Logs the overlays with the highest average render time, at most once per report interval
+	 */
+	private void reportRenderTimes()
 	{
-		if (layer != OverlayLayer.ABOVE_MAP
-			&& client.getWidget(WidgetInfo.FULLSCREEN_MAP_ROOT) != null
-			&& !client.getWidget(WidgetInfo.FULLSCREEN_MAP_ROOT).isHidden())
+		final long now = System.currentTimeMillis();
+		if (now - lastRenderTimeReport < RENDER_TIME_REPORT_INTERVAL)
 		{
 			return;
 		}
+		lastRenderTimeReport = now;
+
+		final List<Overlay> overlays;
+		synchronized (overlayManager)
+		{
+			overlays = new ArrayList<>(overlayManager.getOverlays());
+		}
+
+		overlays.sort(Comparator.comparingLong(Overlay::getRenderTime).reversed());
+
+		final StringBuilder sb = new StringBuilder("Slowest overlays:");
+		for (int i = 0; i < overlays.size() && i < RENDER_TIME_REPORT_COUNT; ++i)
+		{
+			final Overlay overlay = overlays.get(i);
+			sb.append(' ').append(overlay.getName())
+				.append(String.format(" %.3fms", overlay.getRenderTime() / 1_000_000.0));
+		}
+
+		log.debug(sb.toString());
+	}
+
+	public void render(Graphics2D graphics, final OverlayLayer layer)
+	{
+		if (layer != OverlayLayer.ABOVE_MAP)
+		{
+			final Widget fullscreenMap = client.getWidget(WidgetInfo.FULLSCREEN_MAP_ROOT);
+			if (fullscreenMap != null && !fullscreenMap.isHidden())
+			{
+				return;
+			}
+		}
 
 		final List<Overlay> overlays = overlayManager.getLayer(layer);
 
@@ -168,10 +217,11 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		if (shouldInvalidateBounds())
 		{
 			snapCorners = buildSnapCorners();
+			layoutSnapCorners = new OverlayBounds(snapCorners);
 		}
 
-		// Create copy of snap corners because overlays will modify them
-		OverlayBounds snapCorners = new OverlayBounds(this.snapCorners);
+		final OverlayBounds snapCorners = layoutSnapCorners;
+		snapCorners.setFrom(this.snapCorners);
 		OverlayUtil.setGraphicProperties(graphics);
 
 		// Draw snap corners
@@ -194,7 +244,7 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 
 		// Get mouse position
 		final net.runelite.api.Point mouseCanvasPosition = client.getMouseCanvasPosition();
-		final Point mouse = new Point(mouseCanvasPosition.getX(), mouseCanvasPosition.getY());
+		mouse.setLocation(mouseCanvasPosition.getX(), mouseCanvasPosition.getY());
 
 		for (Overlay overlay : overlays)
 		{
@@ -224,21 +274,19 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 
 			if (overlayPosition == OverlayPosition.DYNAMIC || overlayPosition == OverlayPosition.TOOLTIP)
 			{
-				safeRender(client, overlay, layer, graphics, new Point());
+				location.setLocation(0, 0);
+				safeRender(client, overlay, layer, graphics, location);
 			}
 			else
 			{
-				final Point location = overlay.getBounds().getLocation();
-				final Dimension dimension = overlay.getBounds().getSize();
+				final Rectangle overlayBounds = overlay.getBounds();
+				location.setLocation(overlayBounds.x, overlayBounds.y);
 
 				// If the final position is not modified, layout it
 				if (overlayPosition != OverlayPosition.DETACHED && (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null))
 				{
 					final Rectangle snapCorner = snapCorners.forPosition(overlayPosition);
-					final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
-					location.setLocation(snapCorner.getX() + translation.x, snapCorner.getY() + translation.y);
-					final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, PADDING);
-					snapCorner.translate(padding.x, padding.y);
+					overlay.getLayout().layout(overlayPosition, snapCorner, overlayBounds, location);
 				}
 				else
 				{
@@ -250,8 +298,8 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 					}
 
 					final Dimension realDimensions = client.getRealDimensions();
-					location.x = Ints.constrainToRange(location.x, 0, Math.max(0, realDimensions.width - dimension.width));
-					location.y = Ints.constrainToRange(location.y, 0, Math.max(0, realDimensions.height - dimension.height));
+					location.x = Ints.constrainToRange(location.x, 0, Math.max(0, realDimensions.width - overlayBounds.width));
+					location.y = Ints.constrainToRange(location.y, 0, Math.max(0, realDimensions.height - overlayBounds.height));
 				}
 
 				if (overlay.getPreferredSize() != null)
@@ -458,9 +506,22 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		}
 
 		subGraphics.translate(point.x, point.y);
-		final Dimension dimension = MoreObjects.firstNonNull(overlay.render(subGraphics), new Dimension());
+		final long start = System.nanoTime();
+		final Dimension dimension = overlay.render(subGraphics);
+		final long elapsed = System.nanoTime() - start;
 		subGraphics.dispose();
-		overlay.setBounds(new Rectangle(point, dimension));
+
+		// Exponential moving average so single slow frames don't dominate
+		overlay.setRenderTime(overlay.getRenderTime() + (elapsed - overlay.getRenderTime()) / RENDER_TIME_SMOOTHING);
+
+		if (dimension == null)
+		{
+			overlay.getBounds().setBounds(point.x, point.y, 0, 0);
+		}
+		else
+		{
+			overlay.getBounds().setBounds(point.x, point.y, dimension.width, dimension.height);
+		}
 	}
 
 	private boolean shouldInvalidateBounds()
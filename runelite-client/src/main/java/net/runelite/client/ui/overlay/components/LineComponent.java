@@ -33,11 +33,13 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Builder
+@EqualsAndHashCode
 public class LineComponent implements LayoutableRenderableEntity
 {
 	private String left;
@@ -50,6 +52,7 @@ public class LineComponent implements LayoutableRenderableEntity
 	private Color rightColor = Color.WHITE;
 
 	@Builder.Default
+	@EqualsAndHashCode.Exclude
 	private Point preferredLocation = new Point();
 
 	@Builder.Default
@@ -57,8 +60,23 @@ public class LineComponent implements LayoutableRenderableEntity
 
 	@Builder.Default
 	@Getter
+	@EqualsAndHashCode.Exclude
 	private final Rectangle bounds = new Rectangle();
 
+	/**
+	 * Creates a copy of this line's content, for comparing against later
+	 */
+	LineComponent copy()
+	{
+		return LineComponent.builder()
+			.left(left)
+			.right(right)
+			.leftColor(leftColor)
+			.rightColor(rightColor)
+			.preferredSize(new Dimension(preferredSize))
+			.build();
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
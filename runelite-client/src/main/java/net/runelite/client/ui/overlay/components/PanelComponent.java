@@ -26,11 +26,14 @@ package net.runelite.client.ui.overlay.components;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
@@ -75,8 +78,30 @@ public class PanelComponent implements LayoutableRenderableEntity
 	@Setter
 	private Point gap = new Point(0, 0);
 
+	/**
+	 * Render the panel into an image and reuse it while its content does not change.
+	 * Only panels made entirely of {@link LineComponent}s and {@link TitleComponent}s
+	 * are cached, as their content can be compared between frames.
+	 */
+	@Setter
+	private boolean cached;
+
 	private final Dimension childDimensions = new Dimension();
 
+	private BufferedImage cachedImage;
+	private int cachedHash;
+
+	// Copies of the content the cache was built from. Hashes can collide, so the
+	// hash is only used to rule out changes before comparing against these.
+	private final List<LayoutableRenderableEntity> cachedChildren = new ArrayList<>();
+	private Font cachedFont;
+	private Dimension cachedPreferredSize;
+	private Color cachedBackgroundColor;
+	private Orientation cachedOrientation;
+	private int cachedWrapping;
+	private Rectangle cachedBorder;
+	private Point cachedGap;
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -85,6 +110,113 @@ public class PanelComponent implements LayoutableRenderableEntity
 			return null;
 		}
 
+		if (!cached || !isCacheable())
+		{
+			cachedImage = null;
+			return renderPanel(graphics);
+		}
+
+		final Font font = graphics.getFont();
+		final int hash = contentHash(font);
+		if (hash != cachedHash || !contentEquals(font))
+		{
+			// Content has changed, draw it directly this frame and only start caching
+			// once it has been stable for a frame, so frequently changing panels never
+			// pay for creating images.
+			cachedHash = hash;
+			cachedImage = null;
+			copyContent(font);
+			return renderPanel(graphics);
+		}
+
+		if (cachedImage == null)
+		{
+			cachedImage = renderToImage(graphics);
+		}
+
+		graphics.drawImage(cachedImage, preferredLocation.x, preferredLocation.y, null);
+		bounds.setBounds(preferredLocation.x, preferredLocation.y, cachedImage.getWidth(), cachedImage.getHeight());
+		return new Dimension(cachedImage.getWidth(), cachedImage.getHeight());
+	}
+
+	private boolean isCacheable()
+	{
+		for (LayoutableRenderableEntity child : children)
+		{
+			if (!(child instanceof LineComponent) && !(child instanceof TitleComponent))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private int contentHash(Font font)
+	{
+		return Objects.hash(children, font, preferredSize, backgroundColor, orientation, wrapping, border, gap);
+	}
+
+	private boolean contentEquals(Font font)
+	{
+		return children.equals(cachedChildren)
+			&& Objects.equals(font, cachedFont)
+			&& preferredSize.equals(cachedPreferredSize)
+			&& Objects.equals(backgroundColor, cachedBackgroundColor)
+			&& orientation == cachedOrientation
+			&& wrapping == cachedWrapping
+			&& border.equals(cachedBorder)
+			&& gap.equals(cachedGap);
+	}
+
+	private void copyContent(Font font)
+	{
+		// Children are copied as they can be changed through their setters after being added
+		cachedChildren.clear();
+		for (LayoutableRenderableEntity child : children)
+		{
+			cachedChildren.add(child instanceof LineComponent
+				? ((LineComponent) child).copy()
+				: ((TitleComponent) child).copy());
+		}
+
+		cachedFont = font;
+		cachedPreferredSize = new Dimension(preferredSize);
+		cachedBackgroundColor = backgroundColor;
+		cachedOrientation = orientation;
+		cachedWrapping = wrapping;
+		cachedBorder = new Rectangle(border);
+		cachedGap = new Point(gap);
+	}
+
+	private BufferedImage renderToImage(Graphics2D graphics)
+	{
+		final Dimension dimension = new Dimension(
+			border.x + childDimensions.width + border.width,
+			border.y + childDimensions.height + border.height);
+
+		final BufferedImage image = new BufferedImage(
+			Math.max(1, dimension.width),
+			Math.max(1, dimension.height),
+			BufferedImage.TYPE_INT_ARGB);
+
+		final Graphics2D imageGraphics = image.createGraphics();
+		imageGraphics.setRenderingHints(graphics.getRenderingHints());
+		imageGraphics.setFont(graphics.getFont());
+		imageGraphics.setColor(graphics.getColor());
+
+		// Lay the panel out at the origin of the image
+		final Point location = preferredLocation;
+		preferredLocation = new Point();
+		renderPanel(imageGraphics);
+		preferredLocation = location;
+		imageGraphics.dispose();
+
+		return image;
+	}
+
+	private Dimension renderPanel(Graphics2D graphics)
+	{
 		// Calculate panel dimension
 		final Dimension dimension = new Dimension(
 			border.x + childDimensions.width + border.width,
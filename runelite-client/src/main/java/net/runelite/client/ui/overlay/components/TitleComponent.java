@@ -31,11 +31,13 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Builder
+@EqualsAndHashCode
 public class TitleComponent implements LayoutableRenderableEntity
 {
 	private String text;
@@ -44,6 +46,7 @@ public class TitleComponent implements LayoutableRenderableEntity
 	private Color color = Color.WHITE;
 
 	@Builder.Default
+	@EqualsAndHashCode.Exclude
 	private Point preferredLocation = new Point();
 
 	@Builder.Default
@@ -51,8 +54,21 @@ public class TitleComponent implements LayoutableRenderableEntity
 
 	@Builder.Default
 	@Getter
+	@EqualsAndHashCode.Exclude
 	private final Rectangle bounds = new Rectangle();
 
+	/**
+	 * Creates a copy of this title's content, for comparing against later
+	 */
+	TitleComponent copy()
+	{
+		return TitleComponent.builder()
+			.text(text)
+			.color(color)
+			.preferredSize(new Dimension(preferredSize))
+			.build();
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A set of wildcard patterns compiled for matching many strings against.
+ * <p>
+ * Matches the same strings as testing each pattern with
+ * {@link WildcardMatcher#matches(String, String)}, but patterns are only parsed once, and
+ * the common forms of pattern (exact names, prefixes and suffixes) are matched with
+ * hash lookups rather than testing every pattern in turn.
+ */
+public class WildcardMatcherSet
+{
+	private static final Splitter WILDCARD_SPLITTER = Splitter.on('*');
+
+	private final boolean matchAll;
+	private final Set<String> exact;
+	private final Set<String> prefixes;
+	private final int[] prefixLengths;
+	private final Set<String> suffixes;
+	private final int[] suffixLengths;
+	/**
+	 * Remaining patterns, split on their wildcards
+	 */
+	private final List<String[]> patterns;
+
+	private WildcardMatcherSet(Collection<String> patterns)
+	{
+		boolean matchAll = false;
+		Set<String> exact = new HashSet<>();
+		Set<String> prefixes = new HashSet<>();
+		Set<Integer> prefixLengths = new TreeSet<>();
+		Set<String> suffixes = new HashSet<>();
+		Set<Integer> suffixLengths = new TreeSet<>();
+		List<String[]> general = new ArrayList<>();
+
+		for (String pattern : patterns)
+		{
+			final String[] segments = WILDCARD_SPLITTER.splitToList(pattern.toLowerCase()).toArray(new String[0]);
+
+			if (segments.length == 1)
+			{
+				exact.add(segments[0]);
+			}
+			else if (segments.length == 2 && segments[0].isEmpty() && segments[1].isEmpty())
+			{
+				matchAll = true;
+			}
+			else if (segments.length == 2 && segments[1].isEmpty())
+			{
+				prefixes.add(segments[0]);
+				prefixLengths.add(segments[0].length());
+			}
+			else if (segments.length == 2 && segments[0].isEmpty())
+			{
+				suffixes.add(segments[1]);
+				suffixLengths.add(segments[1].length());
+			}
+			else
+			{
+				general.add(segments);
+			}
+		}
+
+		this.matchAll = matchAll;
+		this.exact = ImmutableSet.copyOf(exact);
+		this.prefixes = ImmutableSet.copyOf(prefixes);
+		this.prefixLengths = Ints.toArray(prefixLengths);
+		this.suffixes = ImmutableSet.copyOf(suffixes);
+		this.suffixLengths = Ints.toArray(suffixLengths);
+		this.patterns = general;
+	}
+
+	/**
+	 * Compiles a collection of wildcard patterns, where {@code *} matches any
+	 * number of characters. Patterns are matched case insensitively.
+	 *
+	 * @param patterns the patterns to compile
+	 * @return the compiled patterns
+	 */
+	public static WildcardMatcherSet compile(Collection<String> patterns)
+	{
+		return new WildcardMatcherSet(patterns);
+	}
+
+	/**
+	 * Tests whether a string matches any of the patterns in the set
+	 *
+	 * @param text the string to test
+	 * @return true if any pattern matches the whole of the string
+	 */
+	public boolean matches(String text)
+	{
+		if (matchAll)
+		{
+			return true;
+		}
+
+		final String lower = text.toLowerCase();
+		final int length = lower.length();
+
+		if (exact.contains(lower))
+		{
+			return true;
+		}
+
+		for (int prefixLength : prefixLengths)
+		{
+			if (prefixLength > length)
+			{
+				break;
+			}
+
+			if (prefixes.contains(lower.substring(0, prefixLength)))
+			{
+				return true;
+			}
+		}
+
+		for (int suffixLength : suffixLengths)
+		{
+			if (suffixLength > length)
+			{
+				break;
+			}
+
+			if (suffixes.contains(lower.substring(length - suffixLength)))
+			{
+				return true;
+			}
+		}
+
+		for (String[] segments : patterns)
+		{
+			if (matches(segments, lower))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Matches a pattern of at least two segments, each separated by a wildcard
+	 */
+	private static boolean matches(String[] segments, String text)
+	{
+		final String first = segments[0];
+		final String last = segments[segments.length - 1];
+
+		if (first.length() + last.length() > text.length() || !text.startsWith(first) || !text.endsWith(last))
+		{
+			return false;
+		}
+
+		// matching each middle segment at its earliest position leaves the most room for the rest
+		int position = first.length();
+		final int end = text.length() - last.length();
+		for (int i = 1; i < segments.length - 1; ++i)
+		{
+			final String segment = segments[i];
+			final int index = text.indexOf(segment, position);
+			if (index == -1 || index + segment.length() > end)
+			{
+				return false;
+			}
+
+			position = index + segment.length();
+		}
+
+		return true;
+	}
+}
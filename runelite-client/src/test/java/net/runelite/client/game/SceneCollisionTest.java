@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import static net.runelite.api.Constants.MAX_Z;
+import static net.runelite.api.Constants.SCENE_SIZE;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SceneCollisionTest
+{
+	private static final int BASE_X = 3200;
+	private static final int BASE_Y = 3200;
+
+	private static final int[] FLAGS = {
+		CollisionDataFlag.BLOCK_MOVEMENT_NORTH,
+		CollisionDataFlag.BLOCK_MOVEMENT_EAST,
+		CollisionDataFlag.BLOCK_MOVEMENT_SOUTH,
+		CollisionDataFlag.BLOCK_MOVEMENT_WEST,
+		CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST,
+		CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST,
+		CollisionDataFlag.BLOCK_MOVEMENT_OBJECT,
+		CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL,
+	};
+
+	private int[][][] flags;
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		flags = new int[MAX_Z][SCENE_SIZE][SCENE_SIZE];
+
+		final CollisionData[] collisionMaps = new CollisionData[MAX_Z];
+		for (int z = 0; z < MAX_Z; ++z)
+		{
+			collisionMaps[z] = mock(CollisionData.class);
+			when(collisionMaps[z].getFlags()).thenReturn(flags[z]);
+		}
+
+		client = mock(Client.class);
+		when(client.getBaseX()).thenReturn(BASE_X);
+		when(client.getBaseY()).thenReturn(BASE_Y);
+		when(client.getPlane()).thenReturn(0);
+		when(client.getCollisionMaps()).thenReturn(collisionMaps);
+	}
+
+	@Test
+	public void testMatchesWorldArea()
+	{
+		final Random random = new Random(1);
+		randomize(random);
+
+		final SceneCollision collision = new SceneCollision(flags, BASE_X, BASE_Y);
+
+		for (int i = 0; i < 5000; ++i)
+		{
+			final int size = 1 + random.nextInt(3);
+			final WorldArea area = new WorldArea(BASE_X + 8 + random.nextInt(80), BASE_Y + 8 + random.nextInt(80), size, size, 0);
+			final int dx = random.nextInt(3) - 1;
+			final int dy = random.nextInt(3) - 1;
+			assertEquals(area.canTravelInDirection(client, dx, dy), collision.canTravelInDirection(area, dx, dy));
+
+			final WorldArea target = new WorldArea(area.getX() + random.nextInt(11) - 5, area.getY() + random.nextInt(11) - 5, 1, 1, 0);
+			assertSameLocation(area.calculateNextTravellingPoint(client, target, true),
+				collision.calculateNextTravellingPoint(area, target, true, null));
+			assertSameLocation(area.calculateNextTravellingPoint(client, target, false),
+				collision.calculateNextTravellingPoint(area, target, false, null));
+		}
+	}
+
+	@Test
+	public void testUpdate()
+	{
+		final Random random = new Random(2);
+		randomize(random);
+
+		SceneCollision collision = new SceneCollision(flags, BASE_X, BASE_Y);
+		for (int i = 0; i < 20; ++i)
+		{
+			final List<WorldArea> areas = new ArrayList<>();
+			for (int j = 0; j < 3; ++j)
+			{
+				final int size = 1 + random.nextInt(3);
+				final int x = random.nextInt(SCENE_SIZE);
+				final int y = random.nextInt(SCENE_SIZE);
+				for (int tx = x; tx < Math.min(SCENE_SIZE, x + size); ++tx)
+				{
+					for (int ty = y; ty < Math.min(SCENE_SIZE, y + size); ++ty)
+					{
+						flags[0][tx][ty] = random.nextBoolean() ? FLAGS[random.nextInt(FLAGS.length)] : 0;
+					}
+				}
+				areas.add(new WorldArea(BASE_X + x, BASE_Y + y, size, size, 0));
+			}
+
+			collision = collision.update(flags, areas);
+		}
+
+		final SceneCollision rebuilt = new SceneCollision(flags, BASE_X, BASE_Y);
+		for (int x = 0; x < SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y < SCENE_SIZE; ++y)
+			{
+				final WorldArea area = new WorldArea(BASE_X + x, BASE_Y + y, 1, 1, 0);
+				for (int dx = -1; dx <= 1; ++dx)
+				{
+					for (int dy = -1; dy <= 1; ++dy)
+					{
+						assertEquals(rebuilt.canTravelInDirection(area, dx, dy), collision.canTravelInDirection(area, dx, dy));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPathing()
+	{
+		// a wall along x = 50, with a single gap at y = 60
+		for (int y = 0; y < SCENE_SIZE; ++y)
+		{
+			if (y != 60)
+			{
+				flags[0][50][y] = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+			}
+		}
+		// an enclosed tile
+		flags[0][10][10] = CollisionDataFlag.BLOCK_MOVEMENT_NORTH | CollisionDataFlag.BLOCK_MOVEMENT_EAST
+			| CollisionDataFlag.BLOCK_MOVEMENT_SOUTH | CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+
+		final SceneCollision collision = new SceneCollision(flags, BASE_X, BASE_Y);
+		final WorldPoint from = new WorldPoint(BASE_X + 45, BASE_Y + 40, 0);
+		final WorldPoint to = new WorldPoint(BASE_X + 55, BASE_Y + 40, 0);
+
+		final SceneCollision.DistanceField distances = collision.distancesFrom(from);
+		assertEquals(0, distances.getDistance(from));
+		// 20 steps up to the gap, 2 steps through it as it can't be cut diagonally, and 20 back down
+		assertEquals(42, distances.getDistance(to));
+		assertEquals(-1, distances.getDistance(new WorldPoint(BASE_X + 50, BASE_Y + 40, 0)));
+		assertEquals(-1, distances.getDistance(new WorldPoint(BASE_X + 10, BASE_Y + 10, 0)));
+
+		assertTrue(collision.isReachable(from, to));
+		assertFalse(collision.isReachable(from, new WorldPoint(BASE_X + 10, BASE_Y + 10, 0)));
+		assertFalse(collision.isReachable(from, new WorldPoint(BASE_X + 55, BASE_Y + 40, 1)));
+
+		WorldPoint current = from;
+		int steps = 0;
+		while (!current.equals(to))
+		{
+			final WorldPoint next = collision.getNextStep(current, to);
+			assertEquals(1, current.distanceTo(next));
+			current = next;
+			++steps;
+		}
+		assertEquals(42, steps);
+		assertEquals(to, collision.getNextStep(to, to));
+		assertNull(collision.getNextStep(from, new WorldPoint(BASE_X + 10, BASE_Y + 10, 0)));
+	}
+
+	@Test
+	public void testLineOfSight()
+	{
+		flags[0][50][50] = CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL;
+
+		final SceneCollision collision = new SceneCollision(flags, BASE_X, BASE_Y);
+		final WorldArea source = new WorldArea(BASE_X + 45, BASE_Y + 50, 1, 1, 0);
+
+		assertFalse(collision.hasLineOfSightTo(source, new WorldArea(BASE_X + 55, BASE_Y + 50, 1, 1, 0)));
+		assertTrue(collision.hasLineOfSightTo(source, new WorldArea(BASE_X + 55, BASE_Y + 55, 1, 1, 0)));
+		assertTrue(collision.hasLineOfSightTo(source, new WorldArea(BASE_X + 45, BASE_Y + 55, 1, 1, 0)));
+		assertFalse(collision.hasLineOfSightTo(source, new WorldArea(BASE_X + 45, BASE_Y + 55, 1, 1, 1)));
+	}
+
+	private void randomize(Random random)
+	{
+		for (int x = 0; x < SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y < SCENE_SIZE; ++y)
+			{
+				if (random.nextInt(4) == 0)
+				{
+					flags[0][x][y] = FLAGS[random.nextInt(FLAGS.length)];
+				}
+			}
+		}
+	}
+
+	private static void assertSameLocation(WorldArea expected, WorldArea actual)
+	{
+		if (expected == null)
+		{
+			assertNull(actual);
+			return;
+		}
+
+		assertEquals(expected.toWorldPoint(), actual.toWorldPoint());
+	}
+}
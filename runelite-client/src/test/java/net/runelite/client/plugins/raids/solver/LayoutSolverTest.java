@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.raids.solver;
+
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class LayoutSolverTest
+{
+	private static final int POSITIONS = 16;
+
+	private final LayoutSolver layoutSolver = new LayoutSolver();
+
+	@Test
+	public void testFindsEveryLayout()
+	{
+		for (Layout layout : LayoutSolver.getLayouts())
+		{
+			assertSame(layout, layoutSolver.findLayout(toRaidCode(layout)));
+		}
+	}
+
+	@Test
+	public void testPartialCodes()
+	{
+		final Random random = new Random(1);
+
+		for (Layout layout : LayoutSolver.getLayouts())
+		{
+			for (int i = 0; i < 100; i++)
+			{
+				final char[] code = toRaidCode(layout).toCharArray();
+				for (int position = 0; position < code.length; position++)
+				{
+					if (random.nextBoolean())
+					{
+						code[position] = ' ';
+					}
+				}
+
+				final String partial = new String(code);
+				assertSame(partial, findLayoutLinear(partial), layoutSolver.findLayout(partial));
+			}
+		}
+	}
+
+	@Test
+	public void testUnknownCode()
+	{
+		assertEquals(null, layoutSolver.findLayout("CCCCCCCCCCCCCCCC"));
+		assertEquals(null, layoutSolver.findLayout(""));
+	}
+
+	/**
+	 * Builds the code of a scouted raid, with one room symbol per position.
+	 */
+	private static String toRaidCode(Layout layout)
+	{
+		final StringBuilder builder = new StringBuilder();
+
+		for (int position = 0; position < POSITIONS; position++)
+		{
+			final Room room = layout.getRoomAt(position);
+			builder.append(room == null ? ' ' : room.getSymbol());
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Finds the layout matching a code by comparing it to every known layout.
+	 */
+	private static Layout findLayoutLinear(String code)
+	{
+		Layout solution = null;
+		int matches = 0;
+
+		for (Layout layout : LayoutSolver.getLayouts())
+		{
+			boolean match = true;
+
+			for (int i = 0; i < code.length(); i++)
+			{
+				final Room room = layout.getRoomAt(i);
+				final char c = code.charAt(i);
+
+				if (room != null && c != ' ' && c != room.getSymbol())
+				{
+					match = false;
+					break;
+				}
+			}
+
+			if (match)
+			{
+				solution = layout;
+				matches++;
+			}
+		}
+
+		return matches == 1 ? solution : null;
+	}
+}
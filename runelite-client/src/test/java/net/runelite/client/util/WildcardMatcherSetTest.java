@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	private static final List<String> PATTERNS = Arrays.asList(
+		"rune*",
+		"Abyssal whip",
+		"*seeds",
+		"*bones*",
+		"dragon*(p++)",
+		"a*b*a",
+		"Coins"
+	);
+
+	private static final List<String> NAMES = Arrays.asList(
+		"rune pouch",
+		"Rune pouch",
+		"Runeite Ore",
+		"Adamant dagger",
+		"Abyssal whip",
+		"Abyssal dagger",
+		"Ranarr seeds",
+		"Ranarr seed",
+		"Big bones",
+		"Bones",
+		"Dragon dagger(p++)",
+		"Dragon dagger(p+)",
+		"aba",
+		"ab",
+		"abba",
+		"coins",
+		""
+	);
+
+	@Test
+	public void testMatches()
+	{
+		WildcardMatcherSet matcher = WildcardMatcherSet.compile(PATTERNS);
+		assertTrue(matcher.matches("rune pouch"));
+		assertTrue(matcher.matches("Rune pouch"));
+		assertFalse(matcher.matches("Adamant dagger"));
+		assertTrue(matcher.matches("Abyssal whip"));
+		assertFalse(matcher.matches("Abyssal dagger"));
+		assertTrue(matcher.matches("Dragon dagger(p++)"));
+		assertFalse(matcher.matches("ab"));
+	}
+
+	@Test
+	public void testMatchesSinglePatterns()
+	{
+		// each compiled pattern must agree with the regex based matcher
+		for (String pattern : PATTERNS)
+		{
+			WildcardMatcherSet matcher = WildcardMatcherSet.compile(Collections.singletonList(pattern));
+			for (String name : NAMES)
+			{
+				assertEquals(pattern + " ~ " + name, WildcardMatcher.matches(pattern, name), matcher.matches(name));
+			}
+		}
+	}
+
+	@Test
+	public void testMatchAll()
+	{
+		WildcardMatcherSet matcher = WildcardMatcherSet.compile(Collections.singletonList("*"));
+		assertTrue(matcher.matches(""));
+		assertTrue(matcher.matches("Abyssal whip"));
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		WildcardMatcherSet matcher = WildcardMatcherSet.compile(Collections.emptyList());
+		assertFalse(matcher.matches("Abyssal whip"));
+	}
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import javax.inject.Named;
+import net.runelite.api.ActorSnapshot;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.ClanMember;
 import net.runelite.api.Friend;
@@ -167,6 +168,12 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	private static RSItem lastItemDespawn;
 
+	@Inject
+	private static ActorSnapshot<Player> playerSnapshot;
+
+	@Inject
+	private static ActorSnapshot<NPC> npcSnapshot;
+
 	@Inject
 	private boolean gpu;
 
@@ -298,35 +305,77 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	@Override
 	public List<Player> getPlayers()
+	{
+		return getPlayerSnapshot();
+	}
+
+	@Inject
+	@Override
+	public List<Player> getPlayers(LocalPoint point, int distance)
+	{
+		return getPlayerSnapshot().getNear(point, distance);
+	}
+
+	@Inject
+	private ActorSnapshot<Player> getPlayerSnapshot()
 	{
 		int validPlayerIndexes = getPlayerIndexesCount();
+		ActorSnapshot<Player> snapshot = playerSnapshot;
+		if (snapshot != null && snapshot.size() == validPlayerIndexes)
+		{
+			return snapshot;
+		}
+
 		int[] playerIndexes = getPlayerIndices();
 		Player[] cachedPlayers = getCachedPlayers();
-		List<Player> players = new ArrayList<Player>(validPlayerIndexes);
+		Player[] players = new Player[validPlayerIndexes];
 
 		for (int i = 0; i < validPlayerIndexes; ++i)
 		{
-			players.add(cachedPlayers[playerIndexes[i]]);
+			players[i] = cachedPlayers[playerIndexes[i]];
 		}
 
-		return players;
+		snapshot = new ActorSnapshot<Player>(players, validPlayerIndexes);
+		playerSnapshot = snapshot;
+		return snapshot;
 	}
 
 	@Inject
 	@Override
 	public List<NPC> getNpcs()
+	{
+		return getNpcSnapshot();
+	}
+
+	@Inject
+	@Override
+	public List<NPC> getNpcs(LocalPoint point, int distance)
+	{
+		return getNpcSnapshot().getNear(point, distance);
+	}
+
+	@Inject
+	private ActorSnapshot<NPC> getNpcSnapshot()
 	{
 		int validNpcIndexes = getNpcIndexesCount();
+		ActorSnapshot<NPC> snapshot = npcSnapshot;
+		if (snapshot != null && snapshot.size() == validNpcIndexes)
+		{
+			return snapshot;
+		}
+
 		int[] npcIndexes = getNpcIndices();
 		NPC[] cachedNpcs = getCachedNPCs();
-		List<NPC> npcs = new ArrayList<NPC>(validNpcIndexes);
+		NPC[] npcs = new NPC[validNpcIndexes];
 
 		for (int i = 0; i < validNpcIndexes; ++i)
 		{
-			npcs.add(cachedNpcs[npcIndexes[i]]);
+			npcs[i] = cachedNpcs[npcIndexes[i]];
 		}
 
-		return npcs;
+		snapshot = new ActorSnapshot<NPC>(npcs, validNpcIndexes);
+		npcSnapshot = snapshot;
+		return snapshot;
 	}
 
 	@Inject
@@ -595,6 +644,162 @@ public abstract class RSClientMixin implements RSClient
 		oldMenuEntryCount = count;
 	}
 
+	@Inject
+	@Override
+	public int getMenuEntryCount()
+	{
+		return getMenuOptionCount();
+	}
+
+	@Inject
+	@Override
+	public String getMenuEntryOption(int index)
+	{
+		return getMenuOptions()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuEntryOption(int index, String option)
+	{
+		getMenuOptions()[index] = option;
+	}
+
+	@Inject
+	@Override
+	public String getMenuEntryTarget(int index)
+	{
+		return getMenuTargets()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuEntryTarget(int index, String target)
+	{
+		getMenuTargets()[index] = target;
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryIdentifier(int index)
+	{
+		return getMenuIdentifiers()[index];
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryType(int index)
+	{
+		return getMenuTypes()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuEntryType(int index, int type)
+	{
+		getMenuTypes()[index] = type;
+	}
+
+	@Inject
+	@Override
+	public void swapMenuEntries(int index1, int index2)
+	{
+		String[] menuOptions = getMenuOptions();
+		String[] menuTargets = getMenuTargets();
+		int[] menuIdentifiers = getMenuIdentifiers();
+		int[] menuTypes = getMenuTypes();
+		int[] params0 = getMenuActionParams0();
+		int[] params1 = getMenuActionParams1();
+		boolean[] leftClick = getMenuForceLeftClick();
+
+		String option = menuOptions[index1];
+		menuOptions[index1] = menuOptions[index2];
+		menuOptions[index2] = option;
+
+		String target = menuTargets[index1];
+		menuTargets[index1] = menuTargets[index2];
+		menuTargets[index2] = target;
+
+		int identifier = menuIdentifiers[index1];
+		menuIdentifiers[index1] = menuIdentifiers[index2];
+		menuIdentifiers[index2] = identifier;
+
+		int type = menuTypes[index1];
+		menuTypes[index1] = menuTypes[index2];
+		menuTypes[index2] = type;
+
+		int param0 = params0[index1];
+		params0[index1] = params0[index2];
+		params0[index2] = param0;
+
+		int param1 = params1[index1];
+		params1[index1] = params1[index2];
+		params1[index2] = param1;
+
+		boolean forceLeftClick = leftClick[index1];
+		leftClick[index1] = leftClick[index2];
+		leftClick[index2] = forceLeftClick;
+	}
+
+	@Inject
+	@Override
+	public void insertMenuEntry(int index, MenuEntry entry)
+	{
+		int count = getMenuOptionCount();
+		String[] menuOptions = getMenuOptions();
+		if (count >= menuOptions.length)
+		{
+			return;
+		}
+
+		String[] menuTargets = getMenuTargets();
+		int[] menuIdentifiers = getMenuIdentifiers();
+		int[] menuTypes = getMenuTypes();
+		int[] params0 = getMenuActionParams0();
+		int[] params1 = getMenuActionParams1();
+		boolean[] leftClick = getMenuForceLeftClick();
+
+		int moved = count - index;
+		System.arraycopy(menuOptions, index, menuOptions, index + 1, moved);
+		System.arraycopy(menuTargets, index, menuTargets, index + 1, moved);
+		System.arraycopy(menuIdentifiers, index, menuIdentifiers, index + 1, moved);
+		System.arraycopy(menuTypes, index, menuTypes, index + 1, moved);
+		System.arraycopy(params0, index, params0, index + 1, moved);
+		System.arraycopy(params1, index, params1, index + 1, moved);
+		System.arraycopy(leftClick, index, leftClick, index + 1, moved);
+
+		menuOptions[index] = entry.getOption();
+		menuTargets[index] = entry.getTarget();
+		menuIdentifiers[index] = entry.getIdentifier();
+		menuTypes[index] = entry.getType();
+		params0[index] = entry.getParam0();
+		params1[index] = entry.getParam1();
+		leftClick[index] = entry.isForceLeftClick();
+
+		++count;
+		setMenuOptionCount(count);
+		oldMenuEntryCount = count;
+	}
+
+	@Inject
+	@Override
+	public void removeMenuEntry(int index)
+	{
+		int count = getMenuOptionCount() - 1;
+		int moved = count - index;
+
+		System.arraycopy(getMenuOptions(), index + 1, getMenuOptions(), index, moved);
+		System.arraycopy(getMenuTargets(), index + 1, getMenuTargets(), index, moved);
+		System.arraycopy(getMenuIdentifiers(), index + 1, getMenuIdentifiers(), index, moved);
+		System.arraycopy(getMenuTypes(), index + 1, getMenuTypes(), index, moved);
+		System.arraycopy(getMenuActionParams0(), index + 1, getMenuActionParams0(), index, moved);
+		System.arraycopy(getMenuActionParams1(), index + 1, getMenuActionParams1(), index, moved);
+		System.arraycopy(getMenuForceLeftClick(), index + 1, getMenuForceLeftClick(), index, moved);
+
+		setMenuOptionCount(count);
+		oldMenuEntryCount = count;
+	}
+
 	@FieldHook("menuOptionCount")
 	@Inject
 	public static void onMenuOptionsChanged(int idx)
@@ -933,6 +1138,8 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	public static void cachedNPCsChanged(int idx)
 	{
+		npcSnapshot = null;
+
 		RSNPC[] cachedNPCs = client.getCachedNPCs();
 		if (idx < 0 || idx >= cachedNPCs.length)
 		{
@@ -952,6 +1159,8 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	public static void cachedPlayersChanged(int idx)
 	{
+		playerSnapshot = null;
+
 		RSPlayer[] cachedPlayers = client.getCachedPlayers();
 		if (idx < 0 || idx >= cachedPlayers.length)
 		{
@@ -1235,6 +1444,7 @@ public abstract class RSClientMixin implements RSClient
 	@MethodHook("updateNpcs")
 	public static void updateNpcs(boolean var0, PacketBuffer var1)
 	{
+		npcSnapshot = null;
 		client.getCallbacks().updateNpcs();
 	}
 
@@ -1416,6 +1626,9 @@ public abstract class RSClientMixin implements RSClient
 	@FieldHook("cycleCntr")
 	public static void onCycleCntrChanged(int idx)
 	{
+		// actor lists are only reused within a tick, as actors may have moved since
+		playerSnapshot = null;
+		npcSnapshot = null;
 		client.getCallbacks().post(new ClientTick());
 	}
 
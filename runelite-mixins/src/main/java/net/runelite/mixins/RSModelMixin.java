@@ -29,15 +29,13 @@ import java.util.ArrayList;
 import java.util.List;
 import net.runelite.api.Model;
 import net.runelite.api.Perspective;
-import net.runelite.api.Point;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.mixins.Copy;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.MethodHook;
 import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Replace;
 import net.runelite.api.mixins.Shadow;
-import net.runelite.api.model.Jarvis;
+import net.runelite.api.model.MonotoneChain;
 import net.runelite.api.model.Triangle;
 import net.runelite.api.model.Vertex;
 import net.runelite.rs.api.RSClient;
@@ -58,6 +56,15 @@ public abstract class RSModelMixin implements RSModel
 	@Inject
 	private int rl$bufferOffset;
 
+	@Inject
+	private static int[] rl$hullHeights;
+
+	@Inject
+	private static int[] rl$hullXs;
+
+	@Inject
+	private static int[] rl$hullYs;
+
 	@Inject
 	private int rl$uvBufferOffset;
 
@@ -325,45 +332,60 @@ public abstract class RSModelMixin implements RSModel
 	@Inject
 	public Polygon getConvexHull(int localX, int localY, int orientation)
 	{
-		List<Vertex> vertices = getVertices();
+		final int count = getVerticesCount();
+		final int[] verticesX = getVerticesX();
+		final int[] verticesY = getVerticesY();
+		final int[] verticesZ = getVerticesZ();
 
-		// rotate vertices
-		for (int i = 0; i < vertices.size(); ++i)
+		// Scratch buffers shared by every model, hulls are only computed on the client thread
+		if (rl$hullXs == null || rl$hullXs.length < count)
 		{
-			Vertex v = vertices.get(i);
-			vertices.set(i, v.rotate(orientation));
+			rl$hullHeights = new int[count];
+			rl$hullXs = new int[count];
+			rl$hullYs = new int[count];
 		}
 
-		List<Point> points = new ArrayList<Point>();
+		final int[] heights = rl$hullHeights;
+		final int[] xs = rl$hullXs;
+		final int[] ys = rl$hullYs;
 
-		for (Vertex v : vertices)
+		// models are orientated north (1024) and there are 2048 angles total
+		final int rotation = (orientation + 1024) % 2048;
+		final int sin = Perspective.SINE[rotation];
+		final int cos = Perspective.COSINE[rotation];
+		final int plane = client.getPlane();
+
+		// Each vertex sits at the height of the ground below it, rather than the model origin
+		for (int i = 0; i < count; ++i)
 		{
-			// Compute canvas location of vertex
-			Point p = Perspective.localToCanvas(client,
-				new LocalPoint(localX - v.getX(), localY - v.getZ()),
-				client.getPlane(),
-				-v.getY());
-			if (p != null)
+			int x = verticesX[i];
+			int z = verticesZ[i];
+			if (rotation != 0)
 			{
-				points.add(p);
+				final int rx = x * cos + z * sin >> 16;
+				z = z * cos - x * sin >> 16;
+				x = rx;
 			}
-		}
 
-		// Run Jarvis march algorithm
-		points = Jarvis.convexHull(points);
-		if (points == null)
-		{
-			return null;
+			heights[i] = Perspective.getTileHeight(client, localX - x, localY - z, plane) + verticesY[i];
 		}
 
-		// Convert to a polygon
-		Polygon p = new Polygon();
-		for (Point point : points)
+		Perspective.modelToCanvas(client, count, localX, localY, 0, orientation,
+			verticesX, heights, verticesZ, xs, ys);
+
+		// Drop the vertices which could not be projected
+		int n = 0;
+		for (int i = 0; i < count; ++i)
 		{
-			p.addPoint(point.getX(), point.getY());
+			if (xs[i] != Integer.MIN_VALUE)
+			{
+				xs[n] = xs[i];
+				ys[n] = ys[i];
+				++n;
+			}
 		}
 
-		return p;
+		return MonotoneChain.convexHull(xs, ys, n);
 	}
 
 	@Inject
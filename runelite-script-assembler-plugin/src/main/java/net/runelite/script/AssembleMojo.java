@@ -24,17 +24,42 @@
  */
 package net.runelite.script;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.script.Instruction;
+import net.runelite.cache.script.Instructions;
 import net.runelite.cache.script.assembler.Assembler;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -46,59 +71,299 @@ import org.apache.maven.plugins.annotations.Parameter;
 )
 public class AssembleMojo extends AbstractMojo
 {
+	private static final String INSTRUCTIONS_KEY = "instructions";
+
 	@Parameter(required = true)
 	private File scriptDirectory;
 
 	@Parameter(required = true)
 	private File outputDirectory;
 
+	/**
+	 * Records the content hash and id of each assembled script, so that unchanged
+	 * scripts can be skipped by the next build
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/script-assembler.properties")
+	private File stateFile;
+
+	/**
+	 * The running plugin, its version is part of the recorded state so that outputs
+	 * assembled by a different version of the plugin are not reused
+	 */
+	@Parameter(defaultValue = "${plugin}", readonly = true)
+	private PluginDescriptor plugin;
+
 	private final Log log = getLog();
 
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException
 	{
+		Stopwatch stopwatch = Stopwatch.createStarted();
+
 		RuneLiteInstructions instructions = new RuneLiteInstructions();
 		instructions.init();
 
-		Assembler assembler = new Assembler(instructions);
-		ScriptSaver saver = new ScriptSaver();
-
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
-		{
-			log.debug("Assembling " + scriptFile);
+		String instructionsHash = hashAssembler(instructions);
+		Properties previous = loadState();
+		// the instruction table and the assembler itself affect every script
+		boolean instructionsChanged = !instructionsHash.equals(previous.getProperty(INSTRUCTIONS_KEY));
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
-			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
+		Properties state = new Properties();
+		state.setProperty(INSTRUCTIONS_KEY, instructionsHash);
 
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+		File[] scriptFiles = scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm"));
 
-				// Copy hash file
+		// the instruction table is only read once initialized, so it is shared by each thread's assembler
+		ThreadLocal<Assembler> assemblers = ThreadLocal.withInitial(() -> new Assembler(instructions));
+		List<Callable<String[]>> tasks = new ArrayList<>();
+		int upToDate = 0;
 
+		try
+		{
+			for (File scriptFile : scriptFiles)
+			{
 				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
+				byte[] source = Files.toByteArray(scriptFile);
+				String sourceHash = hashSource(source, hashFile);
+
+				String entry = instructionsChanged ? null : previous.getProperty(scriptFile.getName());
+				if (entry != null)
 				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					String[] parts = entry.split(",");
+					if (parts[0].equals(sourceHash)
+						&& new File(scriptOut, parts[1]).exists()
+						&& (!hashFile.exists() || new File(scriptOut, parts[1] + ".hash").exists()))
+					{
+						state.setProperty(scriptFile.getName(), entry);
+						++upToDate;
+						continue;
+					}
 				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+
+				tasks.add(() ->
 				{
-					throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
+					int id = assemble(assemblers.get(), scriptFile, source, hashFile, scriptOut);
+					return new String[]{scriptFile.getName(), sourceHash + "," + id};
+				});
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoFailureException("unable to open file", ex);
+		}
+
+		for (String[] result : runAll(tasks))
+		{
+			state.setProperty(result[0], result[1]);
+		}
+
+		removeStaleOutputs(previous, state, scriptOut);
+		saveState(state);
+
+		log.info("Assembled " + tasks.size() + " scripts (" + upToDate + " up to date) in "
+			+ stopwatch.elapsed(TimeUnit.MILLISECONDS) + "ms");
+	}
+
+	/**
+	 * Removes the output of scripts which were deleted or which id changed since the
+	 * previous build, which are the ids in the previous state no script assembles to anymore
+	 */
+	private static void removeStaleOutputs(Properties previous, Properties state, File scriptOut)
+	{
+		Set<String> ids = new HashSet<>();
+		for (String name : state.stringPropertyNames())
+		{
+			if (!name.equals(INSTRUCTIONS_KEY))
+			{
+				ids.add(state.getProperty(name).split(",")[1]);
+			}
+		}
+
+		for (String name : previous.stringPropertyNames())
+		{
+			if (name.equals(INSTRUCTIONS_KEY))
+			{
+				continue;
+			}
+
+			String id = previous.getProperty(name).split(",")[1];
+			if (!ids.contains(id))
+			{
+				new File(scriptOut, id).delete();
+				new File(scriptOut, id + ".hash").delete();
+			}
+		}
+	}
+
+	private int assemble(Assembler assembler, File scriptFile, byte[] source, File hashFile, File scriptOut)
+		throws IOException, MojoExecutionException
+	{
+		log.debug("Assembling " + scriptFile);
+
+		ScriptDefinition script;
+		try
+		{
+			script = assembler.assemble(new ByteArrayInputStream(source));
+		}
+		catch (RuntimeException ex)
+		{
+			throw new MojoExecutionException("Unable to assemble " + scriptFile, ex);
+		}
+
+		byte[] packedScript = new ScriptSaver().save(script);
+
+		File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+		Files.write(packedScript, targetFile);
+
+		// Copy hash file
+
+		if (hashFile.exists())
+		{
+			Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+		}
+		else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+		{
+			throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
+		}
+
+		return script.getId();
+	}
+
+	private List<String[]> runAll(List<Callable<String[]>> tasks) throws MojoExecutionException, MojoFailureException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactoryBuilder()
+			.setNameFormat("script-assembler-%d")
+			.setDaemon(true)
+			.build());
+
+		try
+		{
+			List<Future<String[]>> futures = new ArrayList<>(tasks.size());
+			for (Callable<String[]> task : tasks)
+			{
+				futures.add(executor.submit(task));
+			}
+
+			List<String[]> results = new ArrayList<>(tasks.size());
+			for (Future<String[]> future : futures)
+			{
+				results.add(future.get());
+			}
+			return results;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new MojoFailureException("interrupted while assembling scripts", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof MojoExecutionException)
+			{
+				throw (MojoExecutionException) cause;
+			}
+			if (cause instanceof IOException)
+			{
+				throw new MojoFailureException("unable to open file", cause);
+			}
+			throw new MojoFailureException("unable to assemble script", cause);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private static String hashSource(byte[] source, File hashFile) throws IOException
+	{
+		Hasher hasher = Hashing.sha256().newHasher()
+			.putBytes(source);
+		if (hashFile.exists())
+		{
+			hasher.putBytes(Files.toByteArray(hashFile));
+		}
+		return hasher.hash().toString();
+	}
+
+	private String hashAssembler(Instructions instructions) throws MojoExecutionException
+	{
+		List<Instruction> sorted = new ArrayList<>(instructions.getInstructions());
+		sorted.sort(Comparator.comparing(Instruction::getOpcode));
+
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putString(plugin.getId(), StandardCharsets.UTF_8);
+		if (plugin.getVersion().endsWith("-SNAPSHOT"))
+		{
+			// a snapshot keeps its version while the assembler changes, so hash the jars it runs from
+			List<Artifact> artifacts = new ArrayList<>(plugin.getArtifacts());
+			artifacts.add(plugin.getPluginArtifact());
+			for (Artifact artifact : artifacts)
+			{
+				File file = artifact.getFile();
+				if (artifact.getGroupId().equals(plugin.getGroupId()) && file != null && file.isFile())
+				{
+					try
+					{
+						hasher.putString(artifact.getId(), StandardCharsets.UTF_8)
+							.putBytes(Files.asByteSource(file).hash(Hashing.sha256()).asBytes());
+					}
+					catch (IOException ex)
+					{
+						throw new MojoExecutionException("Unable to hash " + file, ex);
+					}
 				}
+			}
+		}
+
+		for (Instruction instruction : sorted)
+		{
+			hasher.putInt(instruction.getOpcode())
+				.putString(String.valueOf(instruction.getName()), StandardCharsets.UTF_8)
+				.putInt(instruction.getIntStackPops())
+				.putInt(instruction.getStringStackPops())
+				.putInt(instruction.getIntStackPushes())
+				.putInt(instruction.getStringStackPushes());
+		}
+		return hasher.hash().toString();
+	}
 
-				++count;
+	private Properties loadState()
+	{
+		Properties state = new Properties();
+		if (stateFile != null && stateFile.exists())
+		{
+			try (InputStream in = new FileInputStream(stateFile))
+			{
+				state.load(in);
 			}
 			catch (IOException ex)
 			{
-				throw new MojoFailureException("unable to open file", ex);
+				log.warn("unable to read " + stateFile + ", assembling all scripts", ex);
+				state.clear();
 			}
 		}
+		return state;
+	}
+
+	private void saveState(Properties state) throws MojoFailureException
+	{
+		if (stateFile == null)
+		{
+			return;
+		}
 
-		log.info("Assembled " + count + " scripts");
+		stateFile.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(stateFile))
+		{
+			state.store(out, null);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoFailureException("unable to write " + stateFile, ex);
+		}
 	}
 }
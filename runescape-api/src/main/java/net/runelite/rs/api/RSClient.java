@@ -431,6 +431,14 @@ public interface RSClient extends RSGameEngine, Client
 	@Override
 	RSIndexDataBase getIndexScripts();
 
+	@Import("indexConfig")
+	@Override
+	RSIndexDataBase getIndexConfig();
+
+	@Import("indexModels")
+	@Override
+	RSIndexDataBase getIndexModels();
+
 	@Import("widgetFlags")
 	@Override
 	RSHashTable getWidgetFlags();
@@ -31,4 +31,8 @@ public interface RSIndexDataBase extends IndexDataBase
 {
 	@Import("getConfigData")
 	byte[] getConfigData(int archiveId, int fileId);
+
+	@Import("crc")
+	@Override
+	int getCrc();
 }